@@ -0,0 +1,49 @@
+package com.example.finalproject;
+
+import com.example.finalproject.domain.admin.Admin;
+import com.example.finalproject.domain.codi.Codi;
+import com.example.finalproject.domain.items.Items;
+import com.example.finalproject.domain.photo.Photo;
+import com.example.finalproject.domain.user.User;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 가짜 데이터 (DB 없이 엔티티만 생성, 시드 고정)
+public class Fixtures {
+    public static final Admin ADMIN = Admin.builder().id(1).brandName("로파").build();
+    public static final User USER = User.builder().id(1).myName("크리에이터").build();
+
+    public static Items item(int id) {
+        return Items.builder().id(id).admin(ADMIN).name("아이템" + id)
+                .price(50_000).discountPrice(5_000).photos(new ArrayList<>()).build();
+    }
+
+    public static Codi codi(int id) {
+        return Codi.builder().id(id).user(USER).description("코디" + id)
+                .createdAt(new Timestamp(System.currentTimeMillis())).build();
+    }
+
+    // 사진 count 장 (메인 사진 비율 1/4, 번호는 뒤섞음)
+    public static List<Photo> photos(int count, Photo.Sort sort, Items items, Codi codi) {
+        Random random = new Random(42);
+        List<Photo> photos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String uuidName = "uuid_" + random.nextInt(Integer.MAX_VALUE) + ".jpg";
+            photos.add(Photo.builder()
+                    .id(random.nextInt(Integer.MAX_VALUE))
+                    .uuidName(uuidName)
+                    .path("/upload/" + uuidName)
+                    .isMainPhoto(i % 4 == 0)
+                    .sort(sort)
+                    .user(USER)
+                    .admin(ADMIN)
+                    .items(items)
+                    .codi(codi)
+                    .build());
+        }
+        return photos;
+    }
+}
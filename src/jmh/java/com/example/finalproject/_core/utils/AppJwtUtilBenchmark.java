@@ -0,0 +1,34 @@
+package com.example.finalproject._core.utils;
+
+import com.example.finalproject.domain.user.SessionUser;
+import com.example.finalproject.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 앱 요청마다 하는 JWT 검증
+// verify : 이미 검증한 토큰 (캐시 적중), verifyCold : 처음 보는 토큰 (서명 확인 + 클레임 추출)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppJwtUtilBenchmark {
+    private String jwt;
+
+    @Setup
+    public void setUp() {
+        jwt = AppJwtUtil.create(User.builder().id(1).myName("크리에이터").email("user@nate.com").blueChecked(true).build());
+    }
+
+    @Benchmark
+    public SessionUser verify() {
+        return AppJwtUtil.verify(jwt);
+    }
+
+    @Benchmark
+    public SessionUser verifyCold() {
+        return AppJwtUtil.verifyWithoutCache(jwt);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.finalproject._core.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 사진 업로드 base64 (data URI) 디코딩, 원본 바이트 크기별
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base64UtilBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bytes;
+
+    private String imgBase64;
+
+    @Setup
+    public void setUp() {
+        byte[] img = new byte[bytes];
+        new Random(42).nextBytes(img);
+        imgBase64 = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(img);
+    }
+
+    @Benchmark
+    public byte[] decodeAsBytes() {
+        return Base64Util.decodeAsBytes(imgBase64);
+    }
+}
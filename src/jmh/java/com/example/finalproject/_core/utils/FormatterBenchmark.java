@@ -0,0 +1,37 @@
+package com.example.finalproject._core.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 금액 포맷 ("#,###") : 행 수만큼 연속 호출
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatterBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private int[] numbers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        numbers = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            numbers[i] = random.nextInt(10_000_000);
+        }
+    }
+
+    @Benchmark
+    public void number(Blackhole blackhole) {
+        for (int number : numbers) {
+            blackhole.consume(Formatter.number(number));
+        }
+    }
+}
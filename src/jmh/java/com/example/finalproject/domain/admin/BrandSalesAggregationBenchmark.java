@@ -0,0 +1,80 @@
+package com.example.finalproject.domain.admin;
+
+import com.example.finalproject.domain.items.Items;
+import com.example.finalproject.domain.orderHistory.OrderHistory;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.DecimalFormat;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 브랜드 매출 아이템별 합산 : 포맷 문자열로 누적하던 기존 루프 vs IntLongGroupMap
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrandSalesAggregationBenchmark {
+    private static final int ITEM_COUNT = 500;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private List<OrderHistory> orderHistories;
+    private List<Object[]> itemDays;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Items> items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            items.add(Items.builder().id(i).name("아이템" + i).build());
+        }
+
+        orderHistories = new ArrayList<>(rows);
+        itemDays = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Items item = items.get(random.nextInt(ITEM_COUNT));
+            int qty = 1 + random.nextInt(5);
+            int price = qty * (10_000 + random.nextInt(90_000));
+            orderHistories.add(OrderHistory.builder().id(i).items(item).orderItemQty(qty).orderItemPrice(price).build());
+            itemDays.add(new Object[]{item.getId(), item.getName(), (long) qty, (long) price});
+        }
+    }
+
+    // 기존 구현 : 합계를 "#,###" 문자열로 들고 있으면서 행마다 파싱/포맷
+    @Benchmark
+    public AdminResponse.BrandSalesManagement formattedStringLoop() {
+        Map<Integer, AdminResponse.BrandOrderHistoryList> orderHistoryMap = new HashMap<>();
+        for (OrderHistory orderHistory : orderHistories) {
+            int itemId = orderHistory.getItems().getId();
+            AdminResponse.BrandOrderHistoryList existing = orderHistoryMap.get(itemId);
+            if (existing == null) {
+                orderHistoryMap.put(itemId, new AdminResponse.BrandOrderHistoryList(orderHistory));
+            } else {
+                int newTotalPrice = legacyParse(existing.getTotalPrice()) + orderHistory.getOrderItemPrice();
+                existing.setTotalPrice(legacyNumber(newTotalPrice));
+                existing.setTotalQuantity(existing.getTotalQuantity() + orderHistory.getOrderItemQty());
+            }
+        }
+        List<AdminResponse.BrandOrderHistoryList> brandOrderHistory = new ArrayList<>(orderHistoryMap.values());
+        int totalSalesAmount = brandOrderHistory.stream().mapToInt(item -> legacyParse(item.getTotalPrice())).sum();
+        int fee = (int) (totalSalesAmount * 0.1);
+        return new AdminResponse.BrandSalesManagement(legacyNumber(totalSalesAmount), legacyNumber(fee), brandOrderHistory);
+    }
+
+    @Benchmark
+    public AdminResponse.BrandSalesManagement intLongGroupMap() {
+        return AdminService.sumByItem(itemDays);
+    }
+
+    // 기존 Formatter.number : 호출마다 DecimalFormat 생성
+    private static String legacyNumber(int number) {
+        return new DecimalFormat("#,###").format(number);
+    }
+
+    private static int legacyParse(String numberStr) {
+        return Integer.parseInt(numberStr.replace(",", ""));
+    }
+}
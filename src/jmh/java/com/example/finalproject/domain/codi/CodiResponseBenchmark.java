@@ -0,0 +1,39 @@
+package com.example.finalproject.domain.codi;
+
+import com.example.finalproject.Fixtures;
+import com.example.finalproject.domain.photo.Photo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 코디 상세 DTO 변환 (메인/아이템/다른 코디 사진 각각 rows 장)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodiResponseBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private Codi codi;
+    private List<Photo> mainPhotos;
+    private List<Photo> itemPhotos;
+    private List<Photo> otherCodiPhotos;
+
+    @Setup
+    public void setUp() {
+        codi = Fixtures.codi(1);
+        mainPhotos = Fixtures.photos(rows, Photo.Sort.CODI, null, codi);
+        itemPhotos = Fixtures.photos(rows, Photo.Sort.ITEM, Fixtures.item(1), null);
+        otherCodiPhotos = Fixtures.photos(rows, Photo.Sort.CODI, null, Fixtures.codi(2));
+    }
+
+    @Benchmark
+    public CodiResponse.MainView mainView() {
+        return new CodiResponse.MainView(codi, Optional.empty(), 0L, mainPhotos, itemPhotos, otherCodiPhotos);
+    }
+}
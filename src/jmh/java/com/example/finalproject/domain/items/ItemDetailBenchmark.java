@@ -0,0 +1,32 @@
+package com.example.finalproject.domain.items;
+
+import com.example.finalproject.Fixtures;
+import com.example.finalproject.domain.photo.Photo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 아이템 상세 사진 메인/상세 분류 + 번호순 정렬 (사진 rows 장)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemDetailBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private Items item;
+
+    @Setup
+    public void setUp() {
+        item = Fixtures.item(1);
+        item.getPhotos().addAll(Fixtures.photos(rows, Photo.Sort.ITEM, item, null));
+    }
+
+    @Benchmark
+    public ItemsResponse.ItemDetail itemDetail() {
+        return ItemsService.toItemDetail(item);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.finalproject.domain.photo;
+
+import com.example.finalproject.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 메인 홈 DTO 변환 (크리에이터/아이템/코디 사진 각각 rows 장)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhotoResponseBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private List<Photo> userPhotos;
+    private List<Photo> itemsPhotos;
+    private List<Photo> codiPhotos;
+
+    @Setup
+    public void setUp() {
+        userPhotos = Fixtures.photos(rows, Photo.Sort.USER, null, null);
+        itemsPhotos = Fixtures.photos(rows, Photo.Sort.ITEM, Fixtures.item(1), null);
+        codiPhotos = Fixtures.photos(rows, Photo.Sort.CODI, null, Fixtures.codi(1));
+    }
+
+    @Benchmark
+    public PhotoResponse.Home home() {
+        return new PhotoResponse.Home(userPhotos, itemsPhotos, codiPhotos);
+    }
+}
@@ -10,11 +10,10 @@ public class CorsFilter implements Filter {
     @Override
     public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
             throws IOException, ServletException {
-        System.out.println("CORS 필터 작동");
         HttpServletRequest request = (HttpServletRequest) req;
         HttpServletResponse response = (HttpServletResponse) res;
 
-        response.setHeader("Access-Control-Expose-Headers", "Authorization");
+        response.setHeader("Access-Control-Expose-Headers", "Authorization, X-Request-Id");
         response.setHeader("Access-Control-Allow-Origin", "*");
         response.setHeader("Access-Control-Allow-Methods", "POST, PUT, PATCH, GET, DELETE, OPTIONS");
         response.setHeader("Access-Control-Max-Age", "3600");
@@ -23,7 +22,6 @@ public class CorsFilter implements Filter {
 
         // 웹소켓: OPTIONS 메서드에 대한 응답 헤더 설정
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
-            System.out.println("여기걸림?");
             response.setStatus(HttpServletResponse.SC_OK);
         }else {
             chain.doFilter(req, res);
@@ -0,0 +1,91 @@
+package com.example.finalproject._core.cache;
+
+import com.example.finalproject._core.utils.AfterCommit;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+// 하이버네이트 2차 캐시 (ehcache.xml) 비우기 + 영역별 적중률
+// JPA 로 저장/수정/삭제한 엔티티는 하이버네이트가 캐시를 같이 갱신하고, 관련 테이블이 바뀐 쿼리 결과는 자동으로 무효화된다
+// JDBC 로 직접 바꾸는 경우(재고 차감, 마일리지 합산)는 하이버네이트가 모르므로 커밋 후 여기서 비운다
+@RequiredArgsConstructor
+@Component
+public class EntityCache {
+    private static final List<String> ENTITY_REGIONS = List.of("admin", "category", "items", "photo");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 엔티티 몇 건 비우기
+    public void evictAfterCommit(Class<?> entityClass, Collection<?> ids) {
+        List<Object> idList = new ArrayList<>(ids);
+        AfterCommit.run(() -> {
+            Cache cache = entityManagerFactory.getCache();
+            idList.forEach(id -> cache.evict(entityClass, id));
+        });
+    }
+
+    public List<Region> regions() {
+        Statistics statistics = sessionFactory().getStatistics();
+        List<Region> regions = new ArrayList<>();
+        ENTITY_REGIONS.forEach(name -> add(regions, name, statistics.getDomainDataRegionStatistics(name)));
+        return regions;
+    }
+
+    // 프로메테우스 텍스트 형식 (영역별 hit/miss/put 카운터)
+    public String prometheus() {
+        List<Region> regions = regions();
+        StringBuilder sb = new StringBuilder(1024);
+        counter(sb, "hibernate_cache_hits_total", "2차 캐시 적중 수", regions, Region::getHits);
+        counter(sb, "hibernate_cache_misses_total", "2차 캐시 미적중 수", regions, Region::getMisses);
+        counter(sb, "hibernate_cache_puts_total", "2차 캐시 저장 수", regions, Region::getPuts);
+        return sb.toString();
+    }
+
+    private static void counter(StringBuilder sb, String name, String help, List<Region> regions,
+                                ToLongFunction<Region> value) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" counter\n");
+        regions.forEach(region -> sb.append(name).append("{region=\"").append(region.getName()).append("\"} ")
+                .append(value.applyAsLong(region)).append('\n'));
+    }
+
+    private static void add(List<Region> regions, String name, CacheRegionStatistics statistics) {
+        if (statistics != null) {
+            regions.add(new Region(name, statistics));
+        }
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+
+    // 관리자 화면 표 한 줄
+    @Data
+    public static class Region {
+        private String name;
+        private long hits;
+        private long misses;
+        private long puts;
+        private String hitRatio; // %
+
+        Region(String name, CacheRegionStatistics statistics) {
+            this.name = name;
+            this.hits = statistics.getHitCount();
+            this.misses = statistics.getMissCount();
+            this.puts = statistics.getPutCount();
+            long total = hits + misses;
+            this.hitRatio = total == 0 ? "-" : String.format("%.1f", hits * 100.0 / total);
+        }
+    }
+}
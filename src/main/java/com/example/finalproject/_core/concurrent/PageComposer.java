@@ -0,0 +1,241 @@
+package com.example.finalproject._core.concurrent;
+
+import com.example.finalproject._core.error.exception.Exception500;
+import com.example.finalproject._core.logging.CorrelationId;
+import com.example.finalproject._core.metrics.SqlStatementCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 화면 하나를 그리는 서로 독립적인 조회들을 가상 스레드에서 동시에 실행
+// 조회마다 읽기 전용 트랜잭션(커넥션)을 따로 쓰므로 페이지 응답 시간이 조회 시간의 합이 아니라 가장 느린 조회 시간이 된다
+//
+// Page page = pageComposer.open();
+// Part<Codi> codi = page.fork("codi", () -> ...);            // 필수 : 실패하면 페이지 전체 실패
+// Part<Long> count = page.fork("count", () -> ...).orElse(0L); // 선택 : 실패/시간 초과 시 기본값
+// page.join();                                                 // 마감 시간까지 대기 후 결과 확정
+// codi.get();
+//
+// 엔티티는 각자의 트랜잭션이 끝난 뒤 준영속 상태로 넘어오므로 DTO 변환 시 fetch join 된 값만 사용해야 한다
+//
+// 가상 스레드는 얼마든지 만들 수 있지만 커넥션 풀은 그렇지 않으므로, 동시에 도는 조회 수를 세마포어로 제한한다 (bulkhead)
+// 자리가 없으면 바로 시작하는 조회는 요청 스레드에서 그대로 실행하고, 앞선 조회를 기다리는 조회는 마감 시간까지 자리를 기다린다
+@Slf4j
+@Component
+public class PageComposer {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TransactionTemplate readOnly;
+    private final long deadlineMillis;
+    private final Semaphore permits;
+
+    public PageComposer(PlatformTransactionManager transactionManager,
+                        @Value("${page-composer.deadline-millis:3000}") long deadlineMillis,
+                        @Value("${page-composer.max-concurrent:5}") int maxConcurrent) {
+        this.deadlineMillis = deadlineMillis;
+        this.permits = new Semaphore(maxConcurrent);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // 마감 후 버려진 조회도 DB 에서 오래 붙잡고 있지 않도록 트랜잭션 타임아웃(쿼리 타임아웃)을 마감 시간에 맞춤
+        this.readOnly.setTimeout((int) Math.max(1, (deadlineMillis + 999) / 1000));
+    }
+
+    public Page open() {
+        return new Page(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis));
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    public class Page {
+        private final long deadlineNanos;
+        private final List<Part<?>> parts = new ArrayList<>();
+
+        private Page(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        // 바로 시작하는 조회 (동시 조회 자리가 없으면 요청 스레드에서 바로 실행)
+        public <T> Part<T> fork(String name, Supplier<T> query) {
+            Supplier<T> task = task(query);
+            if (!permits.tryAcquire()) {
+                return add(new Part<>(name, runInline(task)));
+            }
+            try {
+                return add(new Part<>(name, CompletableFuture.supplyAsync(task, executor)
+                        .whenComplete((value, e) -> permits.release())));
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        // 앞선 조회 결과가 있어야 하는 조회 (앞선 조회가 끝나면 별도 트랜잭션에서 시작)
+        public <A, T> Part<T> fork(String name, Part<A> source, Function<A, T> query) {
+            // 요청 번호와 SQL 카운터는 지금(요청 스레드에서) 이어받아 둠
+            AtomicReference<A> input = new AtomicReference<>();
+            Supplier<T> task = task(() -> query.apply(input.get()));
+            return add(new Part<>(name, source.future.thenApplyAsync(value -> {
+                input.set(value);
+                return withPermit(task);
+            }, executor)));
+        }
+
+        // 모든 조회가 끝나거나, 필수 조회가 실패하거나, 마감 시간이 될 때까지 기다린 뒤 결과 확정
+        public void join() {
+            CompletableFuture<?> all = CompletableFuture.allOf(parts.stream()
+                    .map(part -> part.future).toArray(CompletableFuture[]::new));
+            CompletableFuture<Object> requiredFailure = new CompletableFuture<>();
+            for (Part<?> part : parts) {
+                if (!part.optional) {
+                    part.future.whenComplete((value, e) -> {
+                        if (e != null) {
+                            requiredFailure.completeExceptionally(e);
+                        }
+                    });
+                }
+            }
+
+            try {
+                CompletableFuture.anyOf(all, requiredFailure).get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new Exception500("페이지 조회가 중단되었습니다.");
+            } catch (ExecutionException | TimeoutException e) {
+                // 개별 조회 결과는 아래에서 하나씩 확인
+            }
+
+            // 실패한 필수 조회가 있으면 그 예외(404 등)를 그대로 던짐
+            for (Part<?> part : parts) {
+                if (!part.optional && part.future.isCompletedExceptionally()) {
+                    cancelAll();
+                    throw unwrap(part.future);
+                }
+            }
+            for (Part<?> part : parts) {
+                resolve(part);
+            }
+        }
+
+        private <T> void resolve(Part<T> part) {
+            CompletableFuture<T> future = part.future;
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                part.value = future.join();
+                part.resolved = true;
+                return;
+            }
+
+            if (part.optional) {
+                log.warn("페이지 일부 조회 실패, 기본값 사용 : {} ({})", part.name, future.isDone() ? unwrap(future).toString() : "시간 초과");
+                future.cancel(false);
+                part.value = part.fallback;
+                part.resolved = true;
+                return;
+            }
+
+            // 여기까지 온 필수 조회는 마감 시간 안에 끝나지 않은 경우
+            cancelAll();
+            log.warn("페이지 조회 시간 초과 : {} ({}ms)", part.name, deadlineMillis);
+            throw new Exception500("페이지 조회 시간이 초과되었습니다.");
+        }
+
+        // 가상 스레드에서 자리를 기다렸다가 실행 (마감 시간까지 자리가 나지 않으면 시간 초과로 실패)
+        private <T> T withPermit(Supplier<T> task) {
+            try {
+                if (!permits.tryAcquire(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    throw new CompletionException(new TimeoutException("동시 조회 자리 없음"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        }
+
+        private void cancelAll() {
+            parts.forEach(part -> part.future.cancel(false));
+        }
+
+        private <T> Part<T> add(Part<T> part) {
+            parts.add(part);
+            return part;
+        }
+    }
+
+    public static class Part<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+        private boolean optional;
+        private T fallback;
+        private T value;
+        private boolean resolved;
+
+        private Part(String name, CompletableFuture<T> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        // 실패하거나 마감 시간 안에 끝나지 않아도 페이지는 그리고 이 값으로 대신함
+        public Part<T> orElse(T fallback) {
+            this.optional = true;
+            this.fallback = fallback;
+            return this;
+        }
+
+        public T get() {
+            if (!resolved) {
+                throw new IllegalStateException("join 전에는 결과를 읽을 수 없습니다 : " + name);
+            }
+            return value;
+        }
+    }
+
+    // 요청 번호(MDC)와 SQL 카운터를 이어받고, 읽기 전용 트랜잭션 안에서 조회
+    private <T> Supplier<T> task(Supplier<T> query) {
+        Callable<T> call = CorrelationId.wrap(() -> readOnly.execute(status -> query.get()));
+        return SqlStatementCounter.wrap(() -> {
+            try {
+                return call.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private static <T> CompletableFuture<T> runInline(Supplier<T> task) {
+        try {
+            return CompletableFuture.completedFuture(task.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static RuntimeException unwrap(CompletableFuture<?> future) {
+        if (future.isCancelled()) {
+            return new CancellationException();
+        }
+        Throwable e = future.exceptionNow();
+        while (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e instanceof RuntimeException re ? re : new Exception500("페이지 조회 중 오류가 발생했습니다.");
+    }
+}
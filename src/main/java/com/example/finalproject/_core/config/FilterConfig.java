@@ -1,7 +1,11 @@
 package com.example.finalproject._core.config;
 
 import com.example.finalproject._core.CorsFilter;
+import com.example.finalproject._core.logging.RequestLogFilter;
+import com.example.finalproject._core.metrics.Metrics;
+import com.example.finalproject._core.metrics.MetricsFilter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +14,16 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class FilterConfig {
 
+    // 가장 먼저 실행되어야 이후 모든 로그에 요청 추적 번호가 붙음
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter(@Value("${logging.request.sample-rate:0.1}") double sampleRate,
+                                                                     @Value("${logging.request.slow-millis:1000}") long slowMillis) {
+        FilterRegistrationBean<RequestLogFilter> bean = new FilterRegistrationBean<>(new RequestLogFilter(sampleRate, slowMillis));
+        bean.addUrlPatterns("/*");
+        bean.setOrder(-1);
+        return bean;
+    }
+
     @Bean
     public FilterRegistrationBean<CorsFilter> corsFilter() {
         log.debug("corsFilter scan");
@@ -18,4 +32,12 @@ public class FilterConfig {
         bean.setOrder(0); // 낮은 번호부터 실행됨.
         return bean;
     }
+
+    @Bean
+    public FilterRegistrationBean<MetricsFilter> metricsFilter(Metrics metrics) {
+        FilterRegistrationBean<MetricsFilter> bean = new FilterRegistrationBean<>(new MetricsFilter(metrics));
+        bean.addUrlPatterns("/*");
+        bean.setOrder(1);
+        return bean;
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.finalproject._core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기적으로 갱신되는 메모리 스냅샷/캐시 작업을 위해 스케줄링 활성화
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -3,17 +3,28 @@ package com.example.finalproject._core.config;
 
 import com.example.finalproject._core.interceptor.AppInterceptor;
 import com.example.finalproject._core.interceptor.LoginInterceptor;
+import com.example.finalproject._core.interceptor.QueryBudgetInterceptor;
+import com.example.finalproject._core.resolver.SessionUserArgumentResolver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
+import java.util.List;
+
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
+    // true 면 @QueryBudget 을 넘는 순간 요청 실패 (테스트용), false 면 경고 로그만
+    @Value("${query-budget.strict:false}")
+    private boolean queryBudgetStrict;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(queryBudgetStrict))
+                .order(-1);
         registry.addInterceptor(new LoginInterceptor())
                 .addPathPatterns("/api/**")
                 .excludePathPatterns();
@@ -23,6 +34,11 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     }
 
+    // 앱 API 컨트롤러의 SessionUser 파라미터
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new SessionUserArgumentResolver());
+    }
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
@@ -14,14 +14,14 @@ import org.springframework.validation.FieldError;
 public class MyValidationHandler {
 //    com/example/finalproject/domain/codi/CodiService.java
 
-    @Before("execution(* com.example.finalproject.domain.codi.CodiService.searchCodi(..)) && args(keyword)")
+    @Before("execution(* com.example.finalproject.domain.codi.CodiService.searchCodi(..)) && args(keyword, ..)")
     public void validateKeyword(JoinPoint joinPoint, String keyword) {
        if (keyword.length() > 10) {
            throw new Exception400("검색어는 10글자 이하로 입력해주세요.");
        }
     }
 
-    @Before("execution(* com.example.finalproject.domain.items.ItemsService.searchItems(..)) && args(keyword)")
+    @Before("execution(* com.example.finalproject.domain.items.ItemsService.searchItems(..)) && args(keyword, ..)")
     public void validateItemKeyword(JoinPoint joinPoint, String keyword) {
         if (keyword.length() > 10) {
             throw new Exception400("검색어는 10글자 이하로 입력해주세요.");
@@ -34,8 +34,6 @@ public class MyValidationHandler {
     // PointCut
     public void hello(JoinPoint jp) {
         Object[] args = jp.getArgs(); // Args: 파라미터 -> object를 리턴
-        System.out.println("크기 : " + args.length);
-
         for (Object arg : args) {
 
             if (arg instanceof Errors) {
@@ -43,13 +41,10 @@ public class MyValidationHandler {
 
                 if (errors.hasErrors()) {
                     for (FieldError error : errors.getFieldErrors()) {
-                        System.out.println(error.getField());
-                        System.out.println(error.getDefaultMessage());
                         throw new Exception400(error.getDefaultMessage() + " : " + error.getField());
                     }
                 }
             }
         }
-        System.out.println("MyValidationHandler: hello____________________");
     }
 }
@@ -4,34 +4,35 @@ import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.example.finalproject._core.error.exception.Exception401;
 import com.example.finalproject._core.error.exception.Exception500;
+import com.example.finalproject._core.resolver.SessionUserArgumentResolver;
 import com.example.finalproject._core.utils.AppJwtUtil;
 import com.example.finalproject.domain.user.SessionUser;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+@Slf4j
 public class AppInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        System.out.println("preHandle............");
-
         String jwt = request.getHeader("Authorization");
+        if (jwt == null) {
+            throw new Exception401("토큰을 찾을 수 없습니다.");
+        }
         jwt = jwt.replace("Bearer ", "");
-        System.out.println("jwt = .▶️▶️▶️▶️▶️" + jwt);
-        HttpSession session = request.getSession();
-
 
+        // 앱 요청은 세션을 만들지 않고 요청 속성으로만 사용자 정보를 전달
         try {
             SessionUser sessionUser = AppJwtUtil.verify(jwt);
-            session.setAttribute("sessionUser", sessionUser);
+            request.setAttribute(SessionUserArgumentResolver.ATTRIBUTE, sessionUser);
         } catch (TokenExpiredException e) {
             throw new Exception401("토큰 만료 시간이 지났습니다. 다시 로그인 하세요");
         } catch (JWTDecodeException e) {
             throw new Exception401("토큰이 유효하지 않습니다.");
         } catch (Exception e) {
-            e.printStackTrace(); // 개발 진행 시 TEST 보기
+            log.error("토큰 검증 중 알 수 없는 오류", e);
             throw new Exception500(e.getMessage()); //알수 없는 오류는 다 500으로 던진다.
         }
         return true;
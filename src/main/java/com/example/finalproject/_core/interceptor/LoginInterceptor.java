@@ -11,9 +11,11 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class LoginInterceptor implements HandlerInterceptor {
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        System.out.println("preHandle............");
-
-        HttpSession session = request.getSession();
+        // 로그인하지 않은 요청에는 세션을 새로 만들지 않음 (세션은 로그인/회원가입 때만 생성)
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            throw new Exception401("로그인 하셔야 해요");
+        }
 
         Admin sessionBrand = (Admin) session.getAttribute("sessionBrand");
         Admin sessionAdmin = (Admin) session.getAttribute("sessionAdmin");
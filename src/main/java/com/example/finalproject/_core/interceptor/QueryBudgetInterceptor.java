@@ -0,0 +1,57 @@
+package com.example.finalproject._core.interceptor;
+
+import com.example.finalproject._core.metrics.QueryBudget;
+import com.example.finalproject._core.metrics.SqlStatementCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @QueryBudget 이 붙은 핸들러의 SQL 실행 횟수 검사
+@Slf4j
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+    private static final String OWNER = QueryBudgetInterceptor.class.getName() + ".OWNER";
+
+    private final boolean strict;
+
+    public QueryBudgetInterceptor(boolean strict) {
+        this.strict = strict;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (queryBudget == null) {
+            return true;
+        }
+        // MetricsFilter 를 거치지 않은 요청(MockMvc 등)이면 여기서 카운터 시작
+        if (!SqlStatementCounter.isActive()) {
+            SqlStatementCounter.begin();
+            request.setAttribute(OWNER, true);
+        }
+        SqlStatementCounter.budget(queryBudget.value(), strict);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (queryBudget == null) {
+            return;
+        }
+        int count = request.getAttribute(OWNER) != null ? SqlStatementCounter.end() : SqlStatementCounter.current();
+        // 예산을 정할 때 참고할 실제 실행 횟수
+        log.debug("SQL 실행 횟수 : " + handlerMethod.getMethod().getName() + " " + count + "회 (예산 " + queryBudget.value() + "회)");
+        if (count > queryBudget.value()) {
+            log.warn("SQL 예산 초과 : " + request.getMethod() + " " + request.getRequestURI()
+                    + " " + count + "회 (예산 " + queryBudget.value() + "회)");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.finalproject._core.logging;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// 요청 추적 번호 (로그 MDC "requestId", 응답 헤더 X-Request-Id)
+// 요청 스레드 밖(가상 스레드, 백그라운드 작업)으로 넘기는 작업은 wrap 으로 감싸서 같은 번호로 로그가 남게 한다
+public class CorrelationId {
+    public static final String KEY = "requestId";
+    public static final String HEADER = "X-Request-Id";
+
+    // 클라이언트가 보낸 값은 로그 주입이 안 되도록 형식이 맞을 때만 사용
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    public static String fromHeaderOrNew(String header) {
+        if (header != null && VALID.matcher(header).matches()) {
+            return header;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+    }
+
+    public static Runnable wrap(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                task.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                return task.call();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.finalproject._core.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.regex.Pattern;
+
+// 로그 메시지의 비밀값 가림 (logback-spring.xml 의 %redactedMsg)
+// JWT(eyJ... 세 조각)와 "Bearer xxx" 형식의 토큰은 로그 파일에 남지 않는다
+public class RedactingMessageConverter extends MessageConverter {
+    private static final Pattern JWT = Pattern.compile("eyJ[A-Za-z0-9_-]*\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final Pattern BEARER = Pattern.compile("(?i)(bearer\\s+)[A-Za-z0-9._~+/=-]+");
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return redact(super.convert(event));
+    }
+
+    public static String redact(String message) {
+        if (message == null || (message.indexOf("eyJ") < 0 && message.toLowerCase().indexOf("bearer") < 0)) {
+            return message;
+        }
+        String redacted = JWT.matcher(message).replaceAll("[JWT]");
+        return BEARER.matcher(redacted).replaceAll("$1[REDACTED]");
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.finalproject._core.logging;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 추적 번호를 MDC 에 넣고, 요청 한 줄 로그는 표본만 남김
+// 5xx 응답과 느린 요청은 표본과 관계없이 항상 남긴다
+@Slf4j
+public class RequestLogFilter implements Filter {
+    private final double sampleRate;
+    private final long slowMillis;
+
+    public RequestLogFilter(double sampleRate, long slowMillis) {
+        this.sampleRate = sampleRate;
+        this.slowMillis = slowMillis;
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+
+        String requestId = CorrelationId.fromHeaderOrNew(request.getHeader(CorrelationId.HEADER));
+        MDC.put(CorrelationId.KEY, requestId);
+        response.setHeader(CorrelationId.HEADER, requestId);
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            int status = response.getStatus();
+            if (status >= 500 || millis >= slowMillis || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                // 쿼리 스트링은 토큰 등이 들어갈 수 있어서 남기지 않음
+                log.info(request.getMethod() + " " + request.getRequestURI() + " " + status + " " + millis + "ms");
+            }
+            MDC.remove(CorrelationId.KEY);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.finalproject._core.metrics;
+
+import lombok.Data;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 요청/서비스 지연 시간 히스토그램 + 요청당 SQL 수 + 이미지 전송량
+// 엔드포인트는 URL 패턴(/app/codi/{codiId}) 단위로 모아서 키 개수가 라우트 수를 넘지 않는다
+@Component
+public class Metrics {
+    // 1µs ~ 60초, 유효숫자 2자리 (키 하나당 수십 KB)
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<String, Timer> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Timer> services = new ConcurrentHashMap<>();
+    private final LongAdder imageBytes = new LongAdder();
+
+    public void recordEndpoint(String endpoint, long nanos, int statements) {
+        Timer timer = endpoints.computeIfAbsent(endpoint, k -> new Timer());
+        timer.record(nanos);
+        timer.statements.add(statements);
+        timer.statementsPerCall.recordValue(Math.min(statements, 10_000));
+    }
+
+    public void recordService(String method, long nanos) {
+        services.computeIfAbsent(method, k -> new Timer()).record(nanos);
+    }
+
+    public void addImageBytes(long bytes) {
+        imageBytes.add(bytes);
+    }
+
+    public long getImageBytes() {
+        return imageBytes.sum();
+    }
+
+    public List<Row> endpointRows() {
+        return rows(endpoints);
+    }
+
+    public List<Row> serviceRows() {
+        return rows(services);
+    }
+
+    // 프로메테우스 텍스트 형식 (summary 분위수 + count/sum)
+    public String prometheus() {
+        StringBuilder sb = new StringBuilder(4096);
+        summary(sb, "http_server_requests_seconds", "요청 처리 시간", "endpoint", endpoints);
+
+        sb.append("# HELP http_server_sql_statements_total 요청 중 실행된 SQL 수\n");
+        sb.append("# TYPE http_server_sql_statements_total counter\n");
+        endpoints.forEach((endpoint, timer) -> sb.append("http_server_sql_statements_total{endpoint=\"")
+                .append(escape(endpoint)).append("\"} ").append(timer.statements.sum()).append('\n'));
+
+        sb.append("# HELP http_server_sql_statements_per_request 요청당 SQL 수 분포\n");
+        sb.append("# TYPE http_server_sql_statements_per_request summary\n");
+        endpoints.forEach((endpoint, timer) -> {
+            Histogram snapshot = timer.statementsPerCall.copy();
+            for (double quantile : new double[]{0.5, 0.99}) {
+                sb.append("http_server_sql_statements_per_request{endpoint=\"").append(escape(endpoint))
+                        .append("\",quantile=\"").append(quantile).append("\"} ")
+                        .append(snapshot.getValueAtPercentile(quantile * 100)).append('\n');
+            }
+        });
+
+        summary(sb, "service_method_seconds", "서비스 메서드 실행 시간", "method", services);
+
+        sb.append("# HELP image_bytes_served_total 전송한 이미지 바이트 수\n");
+        sb.append("# TYPE image_bytes_served_total counter\n");
+        sb.append("image_bytes_served_total ").append(imageBytes.sum()).append('\n');
+        return sb.toString();
+    }
+
+    private static void summary(StringBuilder sb, String name, String help, String label, Map<String, Timer> timers) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" summary\n");
+        timers.forEach((key, timer) -> {
+            String labelValue = label + "=\"" + escape(key) + "\"";
+            Histogram snapshot = timer.latency.copy();
+            for (double quantile : new double[]{0.5, 0.95, 0.99}) {
+                sb.append(name).append('{').append(labelValue).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(snapshot.getValueAtPercentile(quantile * 100))).append('\n');
+            }
+            sb.append(name).append("_count{").append(labelValue).append("} ").append(timer.count.sum()).append('\n');
+            sb.append(name).append("_sum{").append(labelValue).append("} ").append(timer.totalNanos.sum() / 1e9).append('\n');
+        });
+    }
+
+    private static List<Row> rows(Map<String, Timer> timers) {
+        List<Row> rows = new ArrayList<>(timers.size());
+        timers.forEach((name, timer) -> rows.add(new Row(name, timer)));
+        rows.sort(Comparator.comparing(Row::getName));
+        return rows;
+    }
+
+    private static double seconds(long micros) {
+        return micros / 1e6;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static class Timer {
+        private final Histogram latency = new ConcurrentHistogram(1, MAX_MICROS, 2); // µs
+        private final Histogram statementsPerCall = new ConcurrentHistogram(1, 10_000, 2);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+
+        void record(long nanos) {
+            long micros = Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_MICROS));
+            latency.recordValue(micros);
+            count.increment();
+            totalNanos.add(nanos);
+        }
+    }
+
+    // 관리자 화면 표 한 줄 (시간은 ms)
+    @Data
+    public static class Row {
+        private String name;
+        private long count;
+        private String p50;
+        private String p95;
+        private String p99;
+        private String max;
+        private String avgStatements;
+
+        Row(String name, Timer timer) {
+            Histogram snapshot = timer.latency.copy();
+            this.name = name;
+            this.count = timer.count.sum();
+            this.p50 = millis(snapshot.getValueAtPercentile(50));
+            this.p95 = millis(snapshot.getValueAtPercentile(95));
+            this.p99 = millis(snapshot.getValueAtPercentile(99));
+            this.max = millis(snapshot.getMaxValue());
+            this.avgStatements = count == 0 ? "0" : String.format("%.1f", (double) timer.statements.sum() / count);
+        }
+
+        private static String millis(long micros) {
+            return String.format("%.2f", micros / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.finalproject._core.metrics;
+
+import com.example.finalproject._core.cache.EntityCache;
+import com.example.finalproject._core.error.exception.Exception403;
+import com.example.finalproject.domain.admin.Admin;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@RequiredArgsConstructor
+@Controller
+public class MetricsController {
+    private final Metrics metrics;
+    private final EntityCache entityCache;
+    private final HttpSession session;
+
+    // 수집기가 Authorization: Bearer <토큰> 으로 보내야 하는 값 (비어 있으면 /metrics 를 열지 않음)
+    @Value("${metrics.token:}")
+    private String metricsToken;
+
+    // 관리자 성능 지표 페이지
+    @GetMapping("/api/metrics")
+    public String metricsPage(HttpServletRequest request) {
+        Admin sessionAdmin = (Admin) session.getAttribute("sessionAdmin");
+        if (sessionAdmin == null) {
+            throw new Exception403("잘못된 접근입니다.");
+        }
+        request.setAttribute("endpoints", metrics.endpointRows());
+        request.setAttribute("services", metrics.serviceRows());
+        request.setAttribute("imageBytes", metrics.getImageBytes());
+        request.setAttribute("cacheRegions", entityCache.regions());
+        return "admin/metrics";
+    }
+
+    // 프로메테우스 수집용 (설정한 토큰을 가진 수집기만 허용)
+    // 접속 주소로는 막지 않음 - 같은 서버의 리버스 프록시 뒤에서는 모든 요청이 127.0.0.1 로 보이기 때문
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    @ResponseBody
+    public String prometheus(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (metricsToken.isBlank() || authorization == null
+                || !MessageDigest.isEqual(("Bearer " + metricsToken).getBytes(StandardCharsets.UTF_8),
+                authorization.getBytes(StandardCharsets.UTF_8))) {
+            throw new Exception403("잘못된 접근입니다.");
+        }
+        return metrics.prometheus() + entityCache.prometheus();
+    }
+}
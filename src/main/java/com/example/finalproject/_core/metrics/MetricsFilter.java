@@ -0,0 +1,100 @@
+package com.example.finalproject._core.metrics;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+
+// 요청마다 처리 시간 + SQL 수를 URL 패턴별로 기록하고, 이미지 응답은 전송 바이트를 기록
+public class MetricsFilter implements Filter {
+    private static final Set<String> STANDARD_METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private final Metrics metrics;
+
+    public MetricsFilter(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        ImageResponse imageResponse = isImagePath(request.getRequestURI()) ? new ImageResponse(response) : null;
+
+        long start = System.nanoTime();
+        SqlStatementCounter.begin();
+        try {
+            chain.doFilter(req, imageResponse == null ? res : imageResponse);
+        } finally {
+            int statements = SqlStatementCounter.end();
+            metrics.recordEndpoint(endpointOf(request), System.nanoTime() - start, statements);
+
+            if (imageResponse != null && !"HEAD".equals(request.getMethod())
+                    && (response.getStatus() == HttpServletResponse.SC_OK || response.getStatus() == HttpServletResponse.SC_PARTIAL_CONTENT)) {
+                metrics.addImageBytes(imageResponse.contentLength);
+            }
+        }
+    }
+
+    // 메서드 + 매핑된 URL 패턴
+    // 키마다 타이머(히스토그램)가 하나씩 생기므로 클라이언트가 마음대로 정하는 값은 키에 넣지 않는다
+    // 매핑 실패는 메서드와 관계없이 하나로, 표준이 아닌 메서드는 OTHER 로 모음
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return "UNMATCHED";
+        }
+        String method = STANDARD_METHODS.contains(request.getMethod()) ? request.getMethod() : "OTHER";
+        return method + " " + pattern;
+    }
+
+    private static boolean isImagePath(String uri) {
+        return uri.startsWith("/photos/") || uri.startsWith("/upload/") || uri.startsWith("/images/");
+    }
+
+    // 전송 바이트는 응답에 설정된 Content-Length 로 계산 (sendfile 로 보내는 경우도 포함)
+    private static class ImageResponse extends HttpServletResponseWrapper {
+        private long contentLength;
+
+        ImageResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            contentLength = len;
+            super.setContentLength(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            contentLength = len;
+            super.setContentLengthLong(len);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            captureContentLength(name, value);
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            captureContentLength(name, value);
+            super.addHeader(name, value);
+        }
+
+        private void captureContentLength(String name, String value) {
+            if ("Content-Length".equalsIgnoreCase(name) && value != null) {
+                try {
+                    contentLength = Long.parseLong(value.trim());
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+    }
+}
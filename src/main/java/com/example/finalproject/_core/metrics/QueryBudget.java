@@ -0,0 +1,15 @@
+package com.example.finalproject._core.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 메서드 한 번 호출에 허용하는 SQL 수 (N+1 감지용)
+// 넘으면 경고 로그, query-budget.strict=true(컨트롤러 테스트) 면 그 자리에서 500
+// 값은 더미 데이터 기준 2차 캐시가 빈 상태의 실행 횟수에 약간의 여유를 둔 것 (QueryBudgetInterceptor 디버그 로그로 확인)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
@@ -0,0 +1,26 @@
+package com.example.finalproject._core.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// domain 패키지의 *Service 공개 메서드 실행 시간 기록
+@RequiredArgsConstructor
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+    private final Metrics metrics;
+
+    @Around("execution(public * com.example.finalproject.domain..*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+            metrics.recordService(method, System.nanoTime() - start);
+        }
+    }
+}
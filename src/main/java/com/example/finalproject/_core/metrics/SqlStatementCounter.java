@@ -0,0 +1,77 @@
+package com.example.finalproject._core.metrics;
+
+import com.example.finalproject._core.error.exception.Exception500;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 하이버네이트가 SQL 을 실행할 때마다 현재 스레드(요청)의 카운터를 올림
+// application.yml 의 hibernate.session_factory.statement_inspector 로 등록 (하이버네이트가 직접 생성하므로 static 상태 사용)
+// JdbcTemplate 배치 쿼리는 하이버네이트를 거치지 않으므로 세지 않는다
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<Counter> COUNTER = new ThreadLocal<>();
+
+    // 요청 시작 시 카운터 초기화
+    public static void begin() {
+        COUNTER.set(new Counter());
+    }
+
+    public static boolean isActive() {
+        return COUNTER.get() != null;
+    }
+
+    // 지금까지 센 SQL 수 (begin 전이면 0)
+    public static int current() {
+        Counter counter = COUNTER.get();
+        return counter == null ? 0 : counter.count.get();
+    }
+
+    // 이번 요청에서 허용하는 SQL 수 (strict 면 넘는 순간 예외, 아니면 요청 끝에 경고만)
+    public static void budget(int budget, boolean strict) {
+        Counter counter = COUNTER.get();
+        if (counter != null) {
+            counter.budget = budget;
+            counter.strict = strict;
+        }
+    }
+
+    // 요청 종료 시 카운터 제거 후 최종 값 반환
+    public static int end() {
+        int count = current();
+        COUNTER.remove();
+        return count;
+    }
+
+    // 요청 스레드의 카운터를 다른 스레드(페이지 조합 가상 스레드)에서도 이어서 세도록 감쌈
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Counter counter = COUNTER.get();
+        return () -> {
+            Counter previous = COUNTER.get();
+            COUNTER.set(counter);
+            try {
+                return task.get();
+            } finally {
+                COUNTER.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counter counter = COUNTER.get();
+        if (counter != null) {
+            int count = counter.count.incrementAndGet();
+            if (counter.strict && counter.budget >= 0 && count > counter.budget) {
+                throw new Exception500("SQL 실행 횟수가 예산(" + counter.budget + "회)을 초과했습니다 : " + sql);
+            }
+        }
+        return sql;
+    }
+
+    private static class Counter {
+        private final AtomicInteger count = new AtomicInteger(); // 여러 스레드가 같은 요청 카운터를 올릴 수 있음
+        private volatile int budget = -1; // 음수면 제한 없음
+        private volatile boolean strict;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.finalproject._core.resolver;
+
+import com.example.finalproject._core.error.exception.Exception401;
+import com.example.finalproject.domain.user.SessionUser;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// 컨트롤러 파라미터의 SessionUser 를 AppInterceptor 가 JWT 로 검증해서 넣어 둔 요청 속성에서 꺼내 줌
+// 앱 API 는 HttpSession 을 쓰지 않으므로 요청마다 세션이 생기지 않는다
+public class SessionUserArgumentResolver implements HandlerMethodArgumentResolver {
+    public static final String ATTRIBUTE = "sessionUser";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType().equals(SessionUser.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        SessionUser sessionUser = (SessionUser) webRequest.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (sessionUser == null) {
+            throw new Exception401("인증되지 않았습니다.");
+        }
+        return sessionUser;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.finalproject._core.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션이 커밋된 후에 실행할 작업 (메모리 색인/카운터/캐시 갱신 등)
+// 롤백되면 실행하지 않고, 트랜잭션 밖에서 호출하면 바로 실행한다
+public class AfterCommit {
+
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
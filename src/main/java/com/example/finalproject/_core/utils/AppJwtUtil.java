@@ -1,14 +1,31 @@
 package com.example.finalproject._core.utils;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.finalproject.domain.user.SessionUser;
 import com.example.finalproject.domain.user.User;
 
+import java.time.Instant;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class AppJwtUtil {
+    // 알고리즘/검증기는 한 번만 만들어서 재사용 (JWTVerifier 는 스레드에 안전)
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512("finalproject");
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
+    // 검증이 끝난 토큰 -> 사용자 정보 (대략 최대 CACHE_SIZE 개, 만료 시각이 지나면 사용 안 함)
+    // 모든 앱 요청이 읽으므로 전역 락 없이 ConcurrentHashMap 으로 두고, 넘치면 한 스레드만 대충 비운다 (LRU 아님)
+    private static final int CACHE_SIZE = 10_000;
+    private static final Map<String, VerifiedToken> VERIFIED = new ConcurrentHashMap<>(256);
+    private static final AtomicBoolean EVICTING = new AtomicBoolean();
+
     public static String create(User user) {
         // JWT 토큰 생성
         String jwt = JWT.create()
@@ -22,16 +39,43 @@ public class AppJwtUtil {
                 .withClaim("email", user.getEmail()) // 사용자 이메일
                 .withClaim("role", user.getBlueChecked())
                 // 토큰 서명(Sign) 설정 (암호화 알고리즘은 HMAC512 사용)
-                .sign(Algorithm.HMAC512("finalproject"));
+                .sign(ALGORITHM);
 
         return jwt; // 생성된 JWT 토큰 반환
     }
 
     // JWT 토큰 검증 및 복호화 메서드
     public static SessionUser verify(String jwt) {
+        // 이미 검증한 토큰이면 서명 확인 없이 만료 시각만 확인
+        VerifiedToken verified = VERIFIED.get(jwt);
+        if (verified != null) {
+            if (verified.expiresAt().isBefore(Instant.now())) {
+                VERIFIED.remove(jwt);
+                throw new TokenExpiredException("The Token has expired on " + verified.expiresAt() + ".", verified.expiresAt());
+            }
+            return verified.copyOfUser();
+        }
 
         // JWT 토큰 복호화 및 검증
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512("finalproject")).build().verify(jwt);
+        DecodedJWT decodedJWT = VERIFIER.verify(jwt);
+        SessionUser sessionUser = toSessionUser(decodedJWT);
+
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (decodedJWT.getExpiresAtAsInstant() != null) {
+            VERIFIED.put(jwt, new VerifiedToken(sessionUser, decodedJWT.getExpiresAtAsInstant()));
+            if (VERIFIED.size() > CACHE_SIZE) {
+                evict();
+            }
+        }
+        return copyOf(sessionUser);
+    }
+
+    // 캐시를 거치지 않는 검증 (서명 확인 + 클레임 추출, 벤치마크에서 직접 측정)
+    static SessionUser verifyWithoutCache(String jwt) {
+        return toSessionUser(VERIFIER.verify(jwt));
+    }
+
+    private static SessionUser toSessionUser(DecodedJWT decodedJWT) {
         // 토큰에서 사용자 정보(Claim) 추출
         int id = decodedJWT.getClaim("id").asInt(); // 사용자 ID
         String username = decodedJWT.getClaim("name").asString(); // 사용자 이름
@@ -46,4 +90,39 @@ public class AppJwtUtil {
                 .blueChecked(role)
                 .build();
     }
+
+    // 만료된 토큰부터 지우고, 그래도 넘치면 순회 순서대로 90% 까지 줄임
+    private static void evict() {
+        if (!EVICTING.compareAndSet(false, true)) {
+            return; // 다른 스레드가 비우는 중
+        }
+        try {
+            Instant now = Instant.now();
+            VERIFIED.values().removeIf(verified -> verified.expiresAt().isBefore(now));
+            int excess = VERIFIED.size() - CACHE_SIZE * 9 / 10;
+            Iterator<String> it = VERIFIED.keySet().iterator();
+            while (excess-- > 0 && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            EVICTING.set(false);
+        }
+    }
+
+    private static SessionUser copyOf(SessionUser user) {
+        return SessionUser.builder()
+                .id(user.getId())
+                .myName(user.getMyName())
+                .email(user.getEmail())
+                .blueChecked(user.getBlueChecked())
+                .build();
+    }
+
+    // SessionUser 는 변경 가능한 객체라서 캐시에는 원본을 두고 호출한 쪽에는 복사본을 준다
+    private record VerifiedToken(SessionUser user, Instant expiresAt) {
+        SessionUser copyOfUser() {
+            return copyOf(user);
+        }
+    }
 }
@@ -1,5 +1,12 @@
 package com.example.finalproject._core.utils;
 
+import com.example.finalproject._core.error.exception.Exception400;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 public class Base64Util {
@@ -32,4 +39,156 @@ public class Base64Util {
         byte[] imgBytes = Base64.getDecoder().decode(img);
         return imgBytes;
     }
+
+    // base64 문자열 전체를 byte[]로 디코딩하지 않고, 읽는 만큼만 디코딩하는 스트림
+    public static InputStream decodingStream(String imgBase64) {
+        if (imgBase64 == null) {
+            throw new Exception400("사진 데이터가 없습니다.");
+        }
+        return decodingStream(new CharSequenceInputStream(imgBase64));
+    }
+
+    // 요청 본문 등에서 들어오는 base64를 읽는 만큼만 디코딩하는 스트림
+    // "data:image/png;base64," 접두어와 공백/줄바꿈은 건너뛰고, 잘못된 문자를 만나면 Exception400
+    public static InputStream decodingStream(InputStream encoded) {
+        try {
+            InputStream source = new SourceStream(skipDataUriPrefix(new BufferedInputStream(encoded)));
+            return new ValidatingStream(Base64.getDecoder().wrap(source));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static InputStream skipDataUriPrefix(BufferedInputStream in) throws IOException {
+        byte[] scheme = "data:".getBytes(StandardCharsets.US_ASCII);
+        in.mark(scheme.length);
+        for (byte b : scheme) {
+            if (in.read() != b) {
+                in.reset();
+                return in;
+            }
+        }
+        // ',' 까지가 접두어 (mime 타입 길이 제한)
+        for (int i = 0; i < 256; i++) {
+            int c = in.read();
+            if (c == ',') {
+                return in;
+            }
+            if (c == -1) {
+                break;
+            }
+        }
+        throw new Exception400("Base64 형식이 아닙니다.");
+    }
+
+    // 원본 스트림 : 공백/줄바꿈 제거, 원본 읽기 오류는 디코딩 오류와 구분되도록 표시
+    private static class SourceStream extends FilterInputStream {
+        SourceStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c;
+            do {
+                try {
+                    c = super.read();
+                } catch (IOException e) {
+                    throw new SourceIOException(e);
+                }
+            } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+            return c;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n;
+            do {
+                try {
+                    n = super.read(b, off, len);
+                } catch (IOException e) {
+                    throw new SourceIOException(e);
+                }
+                if (n <= 0) {
+                    return n;
+                }
+                int kept = 0;
+                for (int i = off; i < off + n; i++) {
+                    byte c = b[i];
+                    if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                        b[off + kept++] = c;
+                    }
+                }
+                n = kept;
+            } while (n == 0);
+            return n;
+        }
+    }
+
+    // 디코딩 중 잘못된 문자를 만나면 400으로 전환
+    private static class ValidatingStream extends FilterInputStream {
+        ValidatingStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (SourceIOException e) {
+                throw (IOException) e.getCause();
+            } catch (IOException e) {
+                throw new Exception400("Base64 형식이 아닙니다.");
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (SourceIOException e) {
+                throw (IOException) e.getCause();
+            } catch (IOException e) {
+                throw new Exception400("Base64 형식이 아닙니다.");
+            }
+        }
+    }
+
+    private static class SourceIOException extends IOException {
+        SourceIOException(IOException cause) {
+            super(cause);
+        }
+    }
+
+    // 문자열을 복사하지 않고 한 글자씩 읽는 스트림 (base64는 ASCII 범위)
+    private static class CharSequenceInputStream extends InputStream {
+        private final CharSequence chars;
+        private int position = 0;
+
+        CharSequenceInputStream(CharSequence chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int read() {
+            if (position >= chars.length()) {
+                return -1;
+            }
+            char c = chars.charAt(position++);
+            return c < 128 ? c : '?';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= chars.length()) {
+                return -1;
+            }
+            int n = Math.min(len, chars.length() - position);
+            for (int i = 0; i < n; i++) {
+                char c = chars.charAt(position++);
+                b[off + i] = (byte) (c < 128 ? c : '?');
+            }
+            return n;
+        }
+    }
 }
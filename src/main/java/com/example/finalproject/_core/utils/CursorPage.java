@@ -0,0 +1,64 @@
+package com.example.finalproject._core.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.*;
+import java.util.function.Function;
+
+// 커서(마지막으로 받은 번호) 기반 페이징 도우미
+// 1단계 : 커서 다음 번호만 size 개 조회 (컬렉션 fetch join 없이 DB에서 바로 LIMIT)
+// 2단계 : 그 번호들에 대해서만 fetch join 조회 후 1단계 순서대로 정렬
+// 요청 하나가 다루는 행 수가 size 로 고정되어 데이터가 늘어나도 메모리 사용량이 일정하다
+public class CursorPage {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    // 1단계 조회에 쓸 LIMIT (정렬은 쿼리에서 지정)
+    public static Pageable limit(Integer size) {
+        if (size == null || size <= 0) {
+            return PageRequest.ofSize(DEFAULT_SIZE);
+        }
+        return PageRequest.ofSize(Math.min(size, MAX_SIZE));
+    }
+
+    // 2단계 조회 결과를 1단계 번호 순서대로 정렬 (fetch join 으로 빠진 번호는 제외)
+    public static <T> List<T> orderByIds(List<Integer> ids, List<T> rows, Function<T, Integer> idOf) {
+        Map<Integer, T> rowById = new HashMap<>();
+        rows.forEach(row -> rowById.put(idOf.apply(row), row));
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            T row = rowById.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    // 다음 페이지 커서 (이번 페이지가 가득 차지 않았으면 마지막 페이지라서 null)
+    public static <T> Integer nextCursor(List<T> page, Pageable limit, Function<T, Integer> idOf) {
+        return page.size() < limit.getPageSize() ? null : idOf.apply(page.getLast());
+    }
+
+    // 다음 페이지 링크 (검색 조건 유지, 마지막 페이지면 null)
+    // 검색어에 &, +, # 등이 들어가도 깨지지 않도록 값은 모두 인코딩한다 (템플릿에서 URL 을 조립하지 않음)
+    public static String nextUrl(String path, Integer nextCursor, String searchBy, String keyword) {
+        if (nextCursor == null) {
+            return null;
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("cursor", nextCursor);
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath(path).queryParam("cursor", "{cursor}");
+        if (searchBy != null) {
+            builder.queryParam("searchBy", "{searchBy}");
+            params.put("searchBy", searchBy);
+        }
+        if (keyword != null) {
+            builder.queryParam("keyword", "{keyword}");
+            params.put("keyword", keyword);
+        }
+        return builder.encode().buildAndExpand(params).toUriString();
+    }
+}
@@ -3,9 +3,15 @@ package com.example.finalproject._core.utils;
 import java.text.DecimalFormat;
 
 public class Formatter {
+    // DecimalFormat 은 생성 비용이 크고 스레드에 안전하지 않으므로 스레드마다 하나씩 만들어서 재사용
+    private static final ThreadLocal<DecimalFormat> NUMBER_FORMAT = ThreadLocal.withInitial(() -> new DecimalFormat("#,###"));
+
     public static String number(int number) {
-        DecimalFormat decimalFormat = new DecimalFormat("#,###");
-        return decimalFormat.format(number);
+        return number((long) number);
+    }
+
+    public static String number(long number) {
+        return NUMBER_FORMAT.get().format(number);
     }
 
     public static int parseNumber(String numberStr) {
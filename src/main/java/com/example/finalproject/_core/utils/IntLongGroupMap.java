@@ -0,0 +1,89 @@
+package com.example.finalproject._core.utils;
+
+import java.util.Arrays;
+
+// int 키별 long 합계 집계용 맵 (GROUP BY key, SUM(col0), SUM(col1) ...)
+// HashMap<Integer, ...> 과 달리 키/합계를 박싱 없이 배열에 들고 있고, 충돌은 선형 탐사로 처리한다
+// 그룹 번호는 처음 나온 순서대로 0, 1, 2 ... 로 매겨지므로 결과를 그룹 번호 순으로 읽으면 된다
+// 스레드에 안전하지 않으므로 메서드 안에서 만들어서 쓰고 버린다
+public class IntLongGroupMap {
+    private static final int EMPTY = -1;
+
+    private final int columns;
+    private int[] table; // 해시 슬롯 -> 그룹 번호 (비어 있으면 EMPTY)
+    private int[] keys; // 그룹 번호 -> 키
+    private long[] sums; // 그룹 번호 * columns + 컬럼 -> 합계
+    private int size;
+
+    public IntLongGroupMap(int columns, int expectedGroups) {
+        this.columns = columns;
+        int capacity = Integer.highestOneBit(Math.max(expectedGroups, 8) * 2 - 1) << 1; // 적재율 0.5 이하
+        this.table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        this.keys = new int[capacity >> 1];
+        this.sums = new long[(capacity >> 1) * columns];
+    }
+
+    // 키의 그룹 번호 (없으면 새로 만들고 합계는 0)
+    public int group(int key) {
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (true) {
+            int group = table[slot];
+            if (group == EMPTY) {
+                break;
+            }
+            if (keys[group] == key) {
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == keys.length) {
+            grow();
+            return group(key);
+        }
+        int group = size++;
+        table[slot] = group;
+        keys[group] = key;
+        return group;
+    }
+
+    public void add(int group, int column, long value) {
+        sums[group * columns + column] += value;
+    }
+
+    public long sum(int group, int column) {
+        return sums[group * columns + column];
+    }
+
+    public int key(int group) {
+        return keys[group];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        int capacity = table.length << 1;
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        keys = Arrays.copyOf(keys, capacity >> 1);
+        sums = Arrays.copyOf(sums, (capacity >> 1) * columns);
+        int mask = capacity - 1;
+        for (int group = 0; group < size; group++) {
+            int slot = mix(keys[group]) & mask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = group;
+        }
+    }
+
+    // 연속된 번호(아이템 번호 등)가 같은 구간에 몰리지 않도록 비트를 섞음
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
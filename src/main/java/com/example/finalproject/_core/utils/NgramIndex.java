@@ -0,0 +1,226 @@
+package com.example.finalproject._core.utils;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 메모리 역색인 (LIKE %keyword% 대체용)
+// 한글은 형태소 분석 없이도 부분 검색이 되도록 글자 단위 1-gram/2-gram 으로 색인하고,
+// 게시물 번호 목록은 정렬된 int 배열로 들고 있어서 교집합을 박싱 없이 계산한다
+// 필드마다 가중치를 주고 (일치한 필드 가중치 합, 앞부분 일치 가산) 순으로 정렬해서 돌려준다
+public class NgramIndex {
+    private final int[] weights;
+    private final HashMap<Long, Postings> postings = new HashMap<>();
+    private final HashMap<Integer, String[]> docs = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 필드 순서대로 가중치 지정
+    public NgramIndex(int... weights) {
+        this.weights = weights;
+    }
+
+    // 추가/수정 (같은 번호가 있으면 교체)
+    public void put(int docId, String... fields) {
+        String[] normalized = new String[weights.length];
+        for (int i = 0; i < weights.length && i < fields.length; i++) {
+            normalized[i] = fields[i] == null ? null : normalize(fields[i]);
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            docs.put(docId, normalized);
+            for (long gram : docGrams(normalized)) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어를 포함하는 게시물 번호 (순위순), 검색어가 비어 있으면 빈 배열
+    public int[] search(String keyword) {
+        String query = normalize(keyword == null ? "" : keyword);
+        if (query.isEmpty()) {
+            return new int[0];
+        }
+        long[] queryGrams = queryGrams(query);
+
+        lock.readLock().lock();
+        try {
+            // 1. 가장 짧은 목록부터 교집합
+            Postings[] lists = new Postings[queryGrams.length];
+            for (int i = 0; i < queryGrams.length; i++) {
+                lists[i] = postings.get(queryGrams[i]);
+                if (lists[i] == null) {
+                    return new int[0];
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+            int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+            int count = candidates.length;
+            for (int i = 1; i < lists.length && count > 0; i++) {
+                count = intersect(candidates, count, lists[i]);
+            }
+
+            // 2. 실제로 검색어를 포함하는지 확인하면서 점수 계산 (n-gram 은 순서를 보장하지 않으므로)
+            // 상위 32비트 : 점수 역순, 하위 32비트 : 번호 -> long 정렬 한 번으로 (점수 내림차순, 번호 오름차순)
+            long[] ranked = new long[count];
+            int hits = 0;
+            for (int i = 0; i < count; i++) {
+                int score = score(docs.get(candidates[i]), query);
+                if (score > 0) {
+                    ranked[hits++] = ((long) (Integer.MAX_VALUE - score) << 32) | (candidates[i] & 0xFFFFFFFFL);
+                }
+            }
+            Arrays.sort(ranked, 0, hits);
+            int[] result = new int[hits];
+            for (int i = 0; i < hits; i++) {
+                result[i] = (int) ranked[i];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int score(String[] fields, String query) {
+        if (fields == null) {
+            return 0;
+        }
+        int score = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                continue;
+            }
+            int index = fields[i].indexOf(query);
+            if (index >= 0) {
+                score += weights[i] * 2 + (index == 0 ? 1 : 0);
+            }
+        }
+        return score;
+    }
+
+    private void removeInternal(int docId) {
+        String[] old = docs.remove(docId);
+        if (old == null) {
+            return;
+        }
+        for (long gram : docGrams(old)) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(docId) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // candidates[0..count) 중 list 에도 있는 번호만 앞으로 모음
+    private static int intersect(int[] candidates, int count, Postings list) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < count && j < list.size; i++) {
+            while (j < list.size && list.ids[j] < candidates[i]) {
+                j++;
+            }
+            if (j < list.size && list.ids[j] == candidates[i]) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return kept;
+    }
+
+    // 색인할 gram : 모든 필드의 1-gram + 2-gram
+    private static Set<Long> docGrams(String[] fields) {
+        Set<Long> grams = new HashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (int i = 0; i < field.length(); i++) {
+                grams.add(unigram(field.charAt(i)));
+                if (i + 1 < field.length()) {
+                    grams.add(bigram(field.charAt(i), field.charAt(i + 1)));
+                }
+            }
+        }
+        return grams;
+    }
+
+    // 검색어는 2-gram 으로만 찾고, 한 글자 검색어만 1-gram 사용
+    private static long[] queryGrams(String query) {
+        if (query.length() == 1) {
+            return new long[]{unigram(query.charAt(0))};
+        }
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(bigram(query.charAt(i), query.charAt(i + 1)));
+        }
+        long[] result = new long[grams.size()];
+        int i = 0;
+        for (Long gram : grams) {
+            result[i++] = gram;
+        }
+        return result;
+    }
+
+    private static long unigram(char c) {
+        return c;
+    }
+
+    private static long bigram(char first, char second) {
+        return (1L << 32) | ((long) first << 16) | second;
+    }
+
+    // 전각/반각 통일, 소문자, 연속 공백은 하나로
+    private static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.trim().replaceAll("\\s+", " ");
+    }
+
+    // 정렬된 int 배열 게시물 목록 (번호는 대부분 증가하는 순서로 들어오므로 보통 끝에 추가됨)
+    private static class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.finalproject._core.utils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 관리자 게시판 (주문/배송/문의) 검색 쿼리
+// 검색 조건(searchBy)마다 메서드를 따로 만들지 않고, 조건 조합별 JPQL 을 한 번만 만들어 캐시한다
+// 같은 조합은 항상 같은 문자열이므로 하이버네이트 쿼리 계획 캐시에서 파싱 결과가 재사용된다
+// 결과는 DTO 생성자로 바로 받고, (소유자 번호, 번호) 인덱스를 타는 커서 페이징으로 size 개만 읽는다
+public class SearchQuery<T> {
+
+    public enum Match {
+        EXACT_ID, // 번호 일치 (숫자가 아니면 결과 없음)
+        PREFIX,   // 앞부분 일치 (keyword%) : 인덱스 사용 가능
+        CONTAINS  // 부분 일치 (%keyword%) : 이름, 제목처럼 중간 글자로 찾는 컬럼
+    }
+
+    private record Filter(String path, Match match) {
+    }
+
+    private static final char ESCAPE = '!';
+
+    private final Class<T> type;
+    private final String select; // select new ...(...)
+    private final String from;   // from ... join ... where 소유자 = :ownerId
+    private final String idPath; // 커서로 쓰는 번호 (내림차순)
+    private final Map<String, Filter> filters = new HashMap<>();
+    private final Map<String, String> jpqlByKey = new ConcurrentHashMap<>();
+
+    public SearchQuery(Class<T> type, String select, String from, String idPath) {
+        this.type = type;
+        this.select = select;
+        this.from = from;
+        this.idPath = idPath;
+    }
+
+    // 검색 조건 등록 (생성 시점에만 호출)
+    public SearchQuery<T> filter(String searchBy, String path, Match match) {
+        filters.put(searchBy, new Filter(path, match));
+        return this;
+    }
+
+    // 커서 다음 size 개 조회 (검색어가 비었거나 모르는 조건이면 전체 목록)
+    public List<T> find(EntityManager em, Integer ownerId, String searchBy, String keyword, Integer cursor, Pageable limit) {
+        Filter filter = filterOf(searchBy, keyword);
+        Object value = filter == null ? null : valueOf(filter, keyword);
+        if (filter != null && value == null) {
+            return List.of();
+        }
+
+        String key = (filter == null ? "" : searchBy) + (cursor == null ? "" : "|cursor");
+        String jpql = jpqlByKey.computeIfAbsent(key, k -> {
+            StringBuilder sb = new StringBuilder(select).append(' ').append(from);
+            appendFilter(sb, filter);
+            if (cursor != null) {
+                sb.append(" and ").append(idPath).append(" < :cursor");
+            }
+            return sb.append(" order by ").append(idPath).append(" desc").toString();
+        });
+
+        TypedQuery<T> query = em.createQuery(jpql, type)
+                .setParameter("ownerId", ownerId)
+                .setMaxResults(limit.getPageSize());
+        if (filter != null) {
+            query.setParameter("keyword", value);
+        }
+        if (cursor != null) {
+            query.setParameter("cursor", cursor);
+        }
+        return query.getResultList();
+    }
+
+    // 같은 검색 조건에서 번호가 id 이하인 행 수 (목록의 게시글 번호 계산용)
+    public long countUpTo(EntityManager em, Integer ownerId, String searchBy, String keyword, Integer id) {
+        Filter filter = filterOf(searchBy, keyword);
+        Object value = filter == null ? null : valueOf(filter, keyword);
+        if (filter != null && value == null) {
+            return 0;
+        }
+
+        String key = "count|" + (filter == null ? "" : searchBy);
+        String jpql = jpqlByKey.computeIfAbsent(key, k -> {
+            StringBuilder sb = new StringBuilder("select count(").append(idPath).append(") ").append(from);
+            appendFilter(sb, filter);
+            return sb.append(" and ").append(idPath).append(" <= :id").toString();
+        });
+
+        TypedQuery<Long> query = em.createQuery(jpql, Long.class)
+                .setParameter("ownerId", ownerId)
+                .setParameter("id", id);
+        if (filter != null) {
+            query.setParameter("keyword", value);
+        }
+        return query.getSingleResult();
+    }
+
+    private Filter filterOf(String searchBy, String keyword) {
+        if (searchBy == null || keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return filters.get(searchBy);
+    }
+
+    private static void appendFilter(StringBuilder sb, Filter filter) {
+        if (filter == null) {
+            return;
+        }
+        sb.append(" and ").append(filter.path());
+        if (filter.match() == Match.EXACT_ID) {
+            sb.append(" = :keyword");
+        } else {
+            sb.append(" like :keyword escape '").append(ESCAPE).append('\'');
+        }
+    }
+
+    private static Object valueOf(Filter filter, String keyword) {
+        String trimmed = keyword.trim();
+        return switch (filter.match()) {
+            case EXACT_ID -> {
+                try {
+                    yield Integer.valueOf(trimmed);
+                } catch (NumberFormatException e) {
+                    yield null;
+                }
+            }
+            case PREFIX -> escape(trimmed) + "%";
+            case CONTAINS -> "%" + escape(trimmed) + "%";
+        };
+    }
+
+    // 검색어에 들어 있는 % _ 를 와일드카드가 아닌 글자로 취급
+    private static String escape(String keyword) {
+        StringBuilder sb = new StringBuilder(keyword.length());
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -2,8 +2,8 @@ package com.example.finalproject._core.utils.base64util;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.Base64;
 
+// 디코딩 결과를 만들지 않고 문자만 훑어서 base64 형식인지 검사 (data URI 접두어 허용)
 public class Base64Tester implements ConstraintValidator<Base64Validator, String> {
 
     @Override
@@ -11,11 +11,38 @@ public class Base64Tester implements ConstraintValidator<Base64Validator, String
         if (value == null || value.isEmpty()) {
             return true; // @NotNull 어노테이션을 추가하여 null 검사를 따로 수행
         }
-        try {
-            Base64.getDecoder().decode(value);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+        int start = 0;
+        if (value.startsWith("data:")) {
+            start = value.indexOf(',') + 1;
+            if (start == 0) {
+                return false;
+            }
         }
+
+        int count = 0;
+        int padding = 0;
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                continue;
+            }
+            if (c == '=') {
+                padding++;
+                continue;
+            }
+            // 패딩 뒤에 다른 문자가 오면 안 됨
+            if (padding > 0 || !isBase64Char(c)) {
+                return false;
+            }
+            count++;
+        }
+        if (padding > 0) {
+            return padding <= 2 && (count + padding) % 4 == 0;
+        }
+        return count % 4 != 1;
+    }
+
+    private boolean isBase64Char(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
     }
 }
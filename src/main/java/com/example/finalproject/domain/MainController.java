@@ -1,7 +1,6 @@
 package com.example.finalproject.domain;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 
@@ -9,6 +8,5 @@ import org.springframework.stereotype.Controller;
 @Controller
 public class MainController {
     private final HttpServletRequest request;
-    private final HttpSession session;
 
 }
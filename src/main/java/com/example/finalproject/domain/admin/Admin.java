@@ -5,12 +5,16 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.sql.Timestamp;
 
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "admin")
 @Table(name = "admin_tb")
 @Data
 public class Admin {
@@ -33,6 +37,7 @@ public class Admin {
     @Column(nullable = false)
     private String address; //주소
     private String businessNum; // 사업자 번호 (관리자, 브랜드)
+    @Column(updatable = false) // 마일리지는 원장 합산(MileageService)으로만 변경
     private Integer mileage;
     @OneToOne(mappedBy = "admin", cascade = CascadeType.ALL, fetch = FetchType.LAZY, optional = true)
     private Photo photo;
@@ -1,16 +1,19 @@
 package com.example.finalproject.domain.admin;
 
 import com.example.finalproject._core.error.exception.Exception403;
+import com.example.finalproject._core.utils.CursorPage;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.example.finalproject.domain.admin.Admin.AdminRole.ADMIN;
@@ -93,18 +96,27 @@ public class AdminController {
 
     // 브랜드 매출관리 페이지
     @GetMapping("/api/brand-sales-manage")
-    public String brandSalesManage(HttpServletRequest reqDTO) {
+    public String brandSalesManage(@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm") LocalDateTime startDate,
+                                   @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm") LocalDateTime endDate,
+                                   HttpServletRequest reqDTO) {
         Admin sessionAdmin = (Admin) session.getAttribute("sessionBrand");
-        AdminResponse.BrandSalesManagement brandSalesManagement = adminService.brandOrderHistory(sessionAdmin.getId());
+        // 매출은 일 단위로 집계되므로 기간도 일 단위로 검색
+        AdminResponse.BrandSalesManagement brandSalesManagement = adminService.brandOrderHistory(sessionAdmin.getId(),
+                startDate == null ? null : startDate.toLocalDate(), endDate == null ? null : endDate.toLocalDate());
         reqDTO.setAttribute("brandSalesManagement", brandSalesManagement);
         return "sales/brand-sales-manage";
     }
 
     // 회원 관리 페이지
     @GetMapping("/api/user-manage")
-    public String userManage(String searchBy, @RequestParam(defaultValue = "") String keyword, HttpServletRequest request) {
-        List<AdminResponse.UserList> userList = adminService.getUserList(searchBy, keyword);
+    public String userManage(String searchBy, @RequestParam(defaultValue = "") String keyword,
+                             @RequestParam(required = false) Integer cursor, HttpServletRequest request) {
+        List<AdminResponse.UserList> userList = adminService.getUserList(searchBy, keyword, cursor);
         request.setAttribute("userList", userList);
+        // 검색이 아닌 전체 목록일 때만 다음 페이지 링크
+        if (searchBy == null || searchBy.isEmpty()) {
+            request.setAttribute("nextCursor", CursorPage.nextCursor(userList, CursorPage.limit(null), AdminResponse.UserList::getUserId));
+        }
         return "admin/user-manage";
     }
 
@@ -33,8 +33,8 @@ public class AdminResponse {
 
         public SalesList(Admin admin, Long orderItemPrice, Double fee) {
             this.admin = new AdminInfo(admin);
-            this.orderItemPrice = Formatter.number(Math.toIntExact(orderItemPrice));
-            this.fee = Formatter.number(fee.intValue());
+            this.orderItemPrice = Formatter.number(orderItemPrice.longValue());
+            this.fee = Formatter.number(fee.longValue());
         }
 
         @Data
@@ -84,6 +84,14 @@ public class AdminResponse {
             this.totalPrice = Formatter.number(orderHistory.getOrderItemPrice());
             this.totalQuantity = orderHistory.getOrderItemQty();
         }
+
+        // 일자별 매출 집계를 아이템별로 합산한 결과
+        public BrandOrderHistoryList(Integer itemsId, String itemsName, long totalPrice, int totalQuantity) {
+            this.itemsId = itemsId;
+            this.itemsName = itemsName;
+            this.totalPrice = Formatter.number(totalPrice);
+            this.totalQuantity = totalQuantity;
+        }
     }
 
     // 유저 목록
@@ -1,16 +1,19 @@
 package com.example.finalproject.domain.admin;
 
 import com.example.finalproject._core.error.exception.*;
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject._core.utils.Formatter;
-import com.example.finalproject.domain.orderHistory.OrderHistory;
+import com.example.finalproject._core.utils.IntLongGroupMap;
 import com.example.finalproject.domain.orderHistory.OrderHistoryRepository;
 import com.example.finalproject.domain.photo.PhotoService;
+import com.example.finalproject.domain.sales.SalesDailyRepository;
 import com.example.finalproject.domain.user.User;
 import com.example.finalproject.domain.user.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -19,80 +22,65 @@ import java.util.stream.Collectors;
 public class AdminService {
     private final AdminRepository adminRepository;
     private final OrderHistoryRepository orderHistoryRepository;
+    private final SalesDailyRepository salesDailyRepository;
     private final UserRepository userRepository;
     private final PhotoService photoService;
 
-    //브랜드가 로그인 했을 때 매출 목록보기
-    public AdminResponse.BrandSalesManagement brandOrderHistory(int adminId) {
-        // 해당 adminId로 주문 내역을 조회
-        List<OrderHistory> brandOrderHistoryDTO = orderHistoryRepository.findByAdminIdWithItems(adminId);
+    //브랜드가 로그인 했을 때 매출 목록보기 (기간이 없으면 전체, 시작일/종료일 중 하나만 있으면 그날부터/그날까지)
+    public AdminResponse.BrandSalesManagement brandOrderHistory(int adminId, LocalDate startDate, LocalDate endDate) {
+        // 주문 내역 대신 아이템/일자별 매출 집계를 조회 (행 수가 주문 수가 아니라 판매 일 수에 비례)
+        boolean ranged = startDate != null || endDate != null;
+        List<Object[]> itemDays = ranged
+                ? salesDailyRepository.findItemDaysByAdminIdAndDate(adminId, startDate, endDate)
+                : salesDailyRepository.findItemDaysByAdminId(adminId);
 
-        // 주문 내역이 존재하지 않으면 404 예외를 발생
-        if (brandOrderHistoryDTO == null || brandOrderHistoryDTO.isEmpty()) {
+        // 주문 내역이 존재하지 않으면 404 예외를 발생 (기간 검색은 빈 목록)
+        if (!ranged && itemDays.isEmpty()) {
             throw new Exception404("현재 주문 내역이 존재하지 않습니다.");
         }
 
-        // 아이템 ID를 키로 하여 주문 내역을 저장할 맵을 생성
-        Map<Integer, AdminResponse.BrandOrderHistoryList> orderHistoryMap = new HashMap<>();
-
-        // 조회된 주문 내역을 반복 처리
-        for (OrderHistory orderHistory : brandOrderHistoryDTO) {
-            // 각 주문 내역의 아이템 ID를 찾기
-            int itemId = orderHistory.getItems().getId();
-            // 아이템 ID를 키로 하여 기존의 주문 내역을 맵에서 조회
-            AdminResponse.BrandOrderHistoryList existing = orderHistoryMap.get(itemId);
-
-            // 맵에 기존에 없는 아이템이면 새로 추가
-            if (existing == null) {
-                // 새로운 주문 내역 리스트 항목을 생성하고 맵에 추가
-                AdminResponse.BrandOrderHistoryList newEntry = new AdminResponse.BrandOrderHistoryList(orderHistory);
-                orderHistoryMap.put(itemId, newEntry);
-            } else {
-                // 기존에 있는 아이템이면 가격과 수량을 합산하여 업데이트
-                // 기존 총 가격을 숫자로 변환
-                int currentTotalPrice = Formatter.parseNumber(existing.getTotalPrice());
-                // 새로운 총 가격을 계산
-                int newTotalPrice = currentTotalPrice + orderHistory.getOrderItemPrice();
-                // 계산된 총 가격을 포맷하여 설정
-                existing.setTotalPrice(Formatter.number(newTotalPrice));
-                // 총 수량을 합산하여 설정
-                existing.setTotalQuantity(existing.getTotalQuantity() + orderHistory.getOrderItemQty());
+        return sumByItem(itemDays);
+    }
+
+    // 아이템/일자별 매출 {아이템 번호, 아이템명, 수량, 금액} 을 아이템별로 합산
+    // 합계는 long 으로만 누적하고 화면에 내보낼 때 한 번만 포맷
+    static AdminResponse.BrandSalesManagement sumByItem(List<Object[]> itemDays) {
+        IntLongGroupMap totals = new IntLongGroupMap(2, itemDays.size());
+        List<String> itemsNames = new ArrayList<>();
+        for (Object[] itemDay : itemDays) {
+            int group = totals.group((Integer) itemDay[0]);
+            if (group == itemsNames.size()) {
+                itemsNames.add((String) itemDay[1]);
             }
+            totals.add(group, 0, (Long) itemDay[2]);
+            totals.add(group, 1, (Long) itemDay[3]);
         }
 
-        // 맵에 저장된 주문 내역 리스트를 생성
-        List<AdminResponse.BrandOrderHistoryList> brandOrderHistory = new ArrayList<>(orderHistoryMap.values());
-        // 총 매출 금액을 계산
-        int totalSalesAmount = brandOrderHistory.stream().mapToInt(item -> Formatter.parseNumber(item.getTotalPrice())).sum();
+        List<AdminResponse.BrandOrderHistoryList> brandOrderHistory = new ArrayList<>(totals.size());
+        long totalSalesAmount = 0;
+        for (int group = 0; group < totals.size(); group++) {
+            brandOrderHistory.add(new AdminResponse.BrandOrderHistoryList(
+                    totals.key(group), itemsNames.get(group), totals.sum(group, 1), (int) totals.sum(group, 0)));
+            totalSalesAmount += totals.sum(group, 1);
+        }
         // 수수료를 계산 (총 매출 금액의 10%)
-        int fee = (int) (totalSalesAmount * 0.1);
+        long fee = (long) (totalSalesAmount * 0.1);
 
         // 최종 결과를 AdminResponse.BrandSalesManagement 객체로 반환
         return new AdminResponse.BrandSalesManagement(Formatter.number(totalSalesAmount), Formatter.number(fee), brandOrderHistory);
     }
 
-    //관리자가 로그인 했을 때 주문 목록 보기
-    public List<OrderHistory> adminOrderHistory(Integer adminId) {
-
-        List<OrderHistory> adminOrderHistoryList = orderHistoryRepository.findAll();
-
-        if (adminOrderHistoryList == null) {
-            throw new SSRException404("현재 주문내역이 존재 하지 않습니다.");
-        }
-        return adminOrderHistoryList;
-    }
-
     //관리자가 로그인했을 때 매출 목록보기
     public AdminResponse.AdminSalesManagement adminSalesListDTOList(String searchBy, String keyword) {
 
         List<AdminResponse.SalesList> salesList = switch (searchBy) {
-            case "adminId" -> orderHistoryRepository.getTotalSalesAndFeePerBrandAndBrandId(keyword);
-            case "brandName" -> orderHistoryRepository.getTotalSalesAndFeePerBrandAndBrandName(keyword);
-            case null, default -> orderHistoryRepository.getTotalSalesAndFeePerBrand();
+            case "adminId" -> salesDailyRepository.getTotalSalesAndFeePerBrandAndBrandId(keyword);
+            case "brandName" -> salesDailyRepository.getTotalSalesAndFeePerBrandAndBrandName(keyword);
+            case null, default -> salesDailyRepository.getTotalSalesAndFeePerBrand();
         };
 
-        int totalSalesAmount = orderHistoryRepository.getTotalOrderItemPrice();
-        int totalFee = (int) (totalSalesAmount * 0.1);
+        long totalSalesAmount = salesDailyRepository.getTotalRevenue();
+        long totalFee = (long) (totalSalesAmount * 0.1);
         return new AdminResponse.AdminSalesManagement(Formatter.number(totalSalesAmount), Formatter.number(totalFee), salesList);
     }
 
@@ -167,13 +155,13 @@ public class AdminService {
     }
 
 
-    // 유저 관리
-    public List<AdminResponse.UserList> getUserList(String searchBy, String keyword) {
+    // 유저 관리 (검색어가 없으면 전체 목록을 커서 단위로)
+    public List<AdminResponse.UserList> getUserList(String searchBy, String keyword, Integer cursor) {
         List<User> userList = switch (searchBy) {
             case "myName" -> userRepository.findByMyName(keyword);
             case "nickName" -> userRepository.findByNickName(keyword);
             case "email" -> userRepository.findByEmailKeyword(keyword);
-            case null, default -> userRepository.findAll();
+            case null, default -> userRepository.findPageAfter(cursor, CursorPage.limit(null));
         };
         return userList.stream().map(AdminResponse.UserList::new).toList();
     }
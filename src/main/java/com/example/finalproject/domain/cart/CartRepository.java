@@ -1,6 +1,7 @@
 package com.example.finalproject.domain.cart;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,6 +16,15 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
     @Query("select c from Cart c join fetch c.items i join fetch i.admin a where c.user.id = :userId")
     List<Cart> findAllByUserIdWithAdmin(@Param("userId") Integer userId);
 
+    // 주문용 장바구니 조회 : 아이템, 브랜드, 연결된 코디의 크리에이터까지 한 번에
+    @Query("select c from Cart c join fetch c.items i join fetch i.admin a left join fetch c.codi cd left join fetch cd.user where c.user.id = :userId")
+    List<Cart> findAllForCheckout(@Param("userId") Integer userId);
+
+    // 사용자 장바구니 한 번에 비우기
+    @Modifying
+    @Query("delete from Cart c where c.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Integer userId);
+
     // 사용자 장바구니의 아이템 찾기
     @Query("select c from Cart c join fetch c.items i join fetch c.user u where u.id = :userId and i.id = :itemId")
     Optional<Cart> findByUserAndItem(@Param("userId") Integer userId, @Param("itemId") Integer itemId);
@@ -5,6 +5,7 @@ import com.example.finalproject.domain.codi.Codi;
 import com.example.finalproject.domain.codi.CodiRepository;
 import com.example.finalproject.domain.items.Items;
 import com.example.finalproject.domain.items.ItemsRepository;
+import com.example.finalproject.domain.items.StockReservation;
 import com.example.finalproject.domain.photo.Photo;
 import com.example.finalproject.domain.photo.PhotoRepository;
 import com.example.finalproject.domain.user.User;
@@ -27,6 +28,7 @@ public class CartService {
     private final UserRepository userRepository;
     private final PhotoRepository photoRepository;
     private final CodiRepository codiRepository;
+    private final StockReservation stockReservation;
 
     // 사용자 장바구니 목록 보기
     public CartResponse.CartInfo getCartByUserId(Integer userId) {
@@ -45,7 +47,8 @@ public class CartService {
         Cart IsCartItem = cartRepository.findByUserAndItem(userId, reqDTO.getItemId()).orElse(null);
         Optional<Photo> photo = photoRepository.findByItemsId(reqDTO.getItemId());
         if (IsCartItem != null) {
-            // 수량 증가
+            // 수량 증가 (다른 사용자가 담아 둔 수량을 뺀 재고 안에서만)
+            stockReservation.hold(userId, reqDTO.getItemId(), IsCartItem.getQuantity() + reqDTO.getQuantity(), IsCartItem.getItems().getStock());
             IsCartItem.setQuantity(IsCartItem.getQuantity() + reqDTO.getQuantity());
             // 총 금액 업데이트
             IsCartItem.setTotalAmount((IsCartItem.getItems().getPrice() * IsCartItem.getQuantity()));
@@ -60,6 +63,7 @@ public class CartService {
             // 새로운 아이템을 장바구니에 추가
             User user = userRepository.findById(userId).orElseThrow(() -> new Exception404("사용자 정보를 찾을 수 없습니다."));
             Items items = itemsRepository.findById(reqDTO.getItemId()).orElseThrow(() -> new Exception404("아이템을 찾을 수 없습니다."));
+            stockReservation.hold(userId, items.getId(), reqDTO.getQuantity(), items.getStock());
             Codi codi = null;
             if (reqDTO.getCodiId() != null) {
                 codi = codiRepository.findById(reqDTO.getCodiId()).orElse(null);
@@ -85,6 +89,7 @@ public class CartService {
         // 장바구니에 해당 아이템이 존재하는지 확인
         if (cartItem != null && cartItem.getUser().getId().equals(userId)) {
             cartRepository.delete(cartItem);
+            stockReservation.release(userId, cartItem.getItems().getId());
         } else {
             // 사용자의 장바구니에 해당 아이템이 없거나, 장바구니에 접근할 수 없는 경우
             throw new Exception404("해당 사용자의 장바구니에 해당 아이템이 없습니다.");
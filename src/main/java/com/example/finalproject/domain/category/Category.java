@@ -5,21 +5,26 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @NoArgsConstructor
 @Entity
-@Table(name = "category_tb")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
+@Table(name = "category_tb", uniqueConstraints = @UniqueConstraint(columnNames = {"main", "sub"}))
 @Data
+// 상위/하위 카테고리 조합마다 한 행만 두고 아이템들이 같이 참조한다 (CategoryTree 가 메모리에 들고 있음)
 public class Category {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
     @Column
-    private String main; // 카테고리명
+    private String main; // 상위 카테고리 (top, bottom)
 
     @Column
-    private String sub; // 카테고리명
+    private String sub; // 하위 카테고리
 
     @Builder
     public Category(Integer id, String main, String sub) {
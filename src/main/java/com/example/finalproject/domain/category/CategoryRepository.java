@@ -2,5 +2,9 @@ package com.example.finalproject.domain.category;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
-}
\ No newline at end of file
+    // (main, sub) 유니크 인덱스
+    Optional<Category> findByMainAndSub(String main, String sub);
+}
@@ -0,0 +1,109 @@
+package com.example.finalproject.domain.category;
+
+import com.example.finalproject._core.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 카테고리 분류표 (상위 -> 하위) 메모리 사본
+// 카테고리는 (main, sub) 조합마다 한 행이고 수십 행 수준이라 앱 시작 시 통째로 읽어 두고, 새 조합이 생길 때만 다시 읽는다
+// 조회는 불변 스냅샷 하나만 읽으므로 잠금 없이 여러 요청이 동시에 써도 된다
+// 아이템 필터는 여기서 카테고리 번호를 얻어 items_tb (category_id, status) 인덱스로 정수 비교만 한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CategoryTree {
+    private static final String INSERT = "insert into category_tb (main, sub) values (?, ?)";
+
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        snapshot = new Snapshot(categoryRepository.findAll());
+        log.info("카테고리 분류표 로딩 완료 : " + snapshot.size() + "건");
+    }
+
+    // 상위 카테고리(top, bottom)에 속한 카테고리 번호 (없으면 빈 목록)
+    public List<Integer> idsOfMain(String main) {
+        return main == null ? List.of() : snapshot.idsByMain.getOrDefault(main, List.of());
+    }
+
+    // 상위 카테고리명에 keyword 가 들어간 카테고리 번호 (브랜드 아이템 관리 검색)
+    public List<Integer> idsOfMainContaining(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+        List<Integer> ids = new ArrayList<>();
+        snapshot.idsByMain.forEach((main, mainIds) -> {
+            if (main.contains(keyword)) {
+                ids.addAll(mainIds);
+            }
+        });
+        return ids;
+    }
+
+    // 아이템 저장/수정 시 사용할 공유 카테고리 (같은 조합이 없으면 새로 만든다)
+    public Category resolve(String main, String sub) {
+        Integer id = snapshot.idOf(main, sub);
+        if (id == null) {
+            id = create(main, sub);
+        }
+        // 2차 캐시(category)에서 읽히므로 보통 쿼리가 나가지 않음
+        return categoryRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("카테고리 분류표와 DB 가 다릅니다 : " + main + "/" + sub));
+    }
+
+    // 새 조합은 아이템을 저장하는 트랜잭션 안에서 만든다 (별도 트랜잭션을 열지 않아 커넥션은 하나)
+    // JdbcTemplate 로 넣어서 (main, sub) 유니크 제약에 걸려도 호출한 트랜잭션이 rollback-only 가 되지 않는다
+    // 분류표는 커밋된 후에 다시 읽는다 (롤백되면 행도 같이 사라짐)
+    private Integer create(String main, String sub) {
+        try {
+            jdbcTemplate.update(INSERT, main, sub);
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 같은 조합을 먼저 커밋한 경우 -> 그 행을 쓴다
+            log.debug("카테고리 조합이 이미 있음 : " + main + "/" + sub);
+        }
+        Integer id = categoryRepository.findByMainAndSub(main, sub)
+                .orElseThrow(() -> new IllegalStateException("카테고리 생성 실패 : " + main + "/" + sub)).getId();
+        AfterCommit.run(this::load);
+        return id;
+    }
+
+    private static class Snapshot {
+        private final Map<String, Integer> idByKey = new HashMap<>();
+        private final Map<String, List<Integer>> idsByMain;
+
+        Snapshot(List<Category> categories) {
+            Map<String, List<Integer>> byMain = new HashMap<>();
+            for (Category category : categories) {
+                idByKey.put(key(category.getMain(), category.getSub()), category.getId());
+                if (category.getMain() != null) {
+                    byMain.computeIfAbsent(category.getMain(), main -> new ArrayList<>()).add(category.getId());
+                }
+            }
+            byMain.replaceAll((main, ids) -> List.copyOf(ids));
+            this.idsByMain = Map.copyOf(byMain);
+        }
+
+        Integer idOf(String main, String sub) {
+            return idByKey.get(key(main, sub));
+        }
+
+        int size() {
+            return idByKey.size();
+        }
+
+        private static String key(String main, String sub) {
+            return main + '\u0000' + sub;
+        }
+    }
+}
@@ -37,6 +37,10 @@ public class Codi {
     @OneToMany(mappedBy = "codi", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<Love> loves;
 
+    // 좋아요 갯수 (LoveCounter가 주기적으로 반영, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "love_count", insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long loveCount;
+
     @CreationTimestamp
     private Timestamp createdAt; // 등록시간
 
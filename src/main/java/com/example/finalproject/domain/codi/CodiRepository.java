@@ -1,8 +1,12 @@
 package com.example.finalproject.domain.codi;
 
+import com.example.finalproject._core.utils.CursorPage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,18 +30,57 @@ public interface CodiRepository extends JpaRepository<Codi, Integer> {
     @Query("select c from Codi c order by c.createdAt desc")
     List<Codi> findAllByOrderByDateDesc();
 
-    // 코디 최신순 정렬 + 사진까지
-    @Query("select c from Codi c join fetch c.photos p where p.isMainPhoto = true order by c.createdAt desc")
-    List<Codi> findAllByOrderByDateDescWithPhoto();
-
-    @Query("select c from Codi c join fetch c.photos p")
-    List<Codi> findByAllCodi();
-
     // JPQL 쿼리 예시 (필요한 경우 추가)
     @Query("SELECT c FROM Codi c JOIN FETCH c.photos p WHERE p.isMainPhoto = true and c.description LIKE %:keyword%")
     List<Codi> findByDescriptionContaining(@Param("keyword") String keyword);
+
+    // 검색 색인용 (코디 번호, 코디 설명)
+    @Query("select c.id, c.description from Codi c")
+    List<Object[]> findAllForSearchIndex();
+
+    // 검색 결과 코디 + 메인 사진 (커서 페이징 2단계에도 사용)
+    @Query("select c from Codi c join fetch c.photos p where p.isMainPhoto = true and c.id in :codiIds")
+    List<Codi> findCodiWithMainPhotoByIds(@Param("codiIds") List<Integer> codiIds);
+
+    // 커서 페이징 1단계 : 커서 다음 코디 번호 (번호순)
+    // 2단계가 사진을 inner join fetch 하므로 사진이 있는 코디만 (없으면 페이지가 size 보다 짧아져 다음 커서가 끊김)
+    @Query("select c.id from Codi c where exists (select p.id from Photo p where p.codi = c) " +
+            "and (:cursor is null or c.id > :cursor) order by c.id")
+    List<Integer> findIdsAfter(@Param("cursor") Integer cursor, Pageable pageable);
+
+    // 커서 페이징 1단계 : 메인 사진이 있는 코디 번호 (최신순, IDENTITY 라 번호 역순 = 등록 역순)
+    @Query("select c.id from Codi c where exists (select p.id from Photo p where p.codi = c and p.isMainPhoto = true) " +
+            "and (:cursor is null or c.id < :cursor) order by c.id desc")
+    List<Integer> findIdsWithMainPhotoBefore(@Param("cursor") Integer cursor, Pageable pageable);
+
+    // 커서 페이징 2단계 : 코디 + 사진
+    @Query("select c from Codi c join fetch c.photos p where c.id in :codiIds")
+    List<Codi> findCodiWithPhotosByIds(@Param("codiIds") List<Integer> codiIds);
+
+    // 커서 다음 코디 + 사진 (번호순)
+    default List<Codi> findPageAfter(Integer cursor, Pageable limit) {
+        List<Integer> ids = findIdsAfter(cursor, limit);
+        return ids.isEmpty() ? List.of() : CursorPage.orderByIds(ids, findCodiWithPhotosByIds(ids), Codi::getId);
+    }
+
+    // 커서 이전 코디 + 메인 사진 (최신순)
+    default List<Codi> findMainPhotoPageBefore(Integer cursor, Pageable limit) {
+        List<Integer> ids = findIdsWithMainPhotoBefore(cursor, limit);
+        return ids.isEmpty() ? List.of() : CursorPage.orderByIds(ids, findCodiWithMainPhotoByIds(ids), Codi::getId);
+    }
 //    @Query("SELECT DISTINCT c FROM Codi c " +
 //            "LEFT JOIN fetch c.photos p " +
 //            "WHERE (p IS NULL OR p.isMainPhoto = true) AND c.description LIKE %:keyword%")
 
+    // 메모리 좋아요 카운터 값을 코디 테이블에 반영
+    @Transactional
+    @Modifying
+    @Query("update Codi c set c.loveCount = :loveCount where c.id = :codiId")
+    int updateLoveCount(@Param("codiId") Integer codiId, @Param("loveCount") Long loveCount);
+
+    // love_tb 기준으로 전체 코디의 좋아요 갯수 다시 계산
+    @Transactional
+    @Modifying
+    @Query("update Codi c set c.loveCount = (select count(l) from Love l where l.codi.id = c.id and l.isLoved = true)")
+    int recalculateLoveCounts();
 }
@@ -37,6 +37,7 @@ public class CodiRequest {
             private String photoName;
             @Base64Validator
             private String photoBase64;
+            private String uploadId; // /app/photos/upload 로 먼저 올린 경우 base64 대신 사용
             private Boolean isMainPhoto;
             private Photo.Sort type;
 
@@ -60,4 +61,21 @@ public class CodiRequest {
         }
     }
 
+    // 앱] 멀티파트 코디 등록 : 사진 파일은 "photos" 파트, 코디 정보는 "codi" 파트(JSON)
+    @Data
+    public static class MultipartSaveDTO {
+        @NotEmpty(message = "코디 설명을 작성 해야 합니다.")
+        @Size(min = 10, max = 150, message = "설명은 최소 10자 최대 150자 이어야 합니다. ")
+        private String description;
+
+        private Integer mainPhotoIndex; // photos 중 대표사진 순번 (없으면 첫 번째)
+
+        private List<SaveDTO.ItemCodiDTO> items;
+
+        public MultipartSaveDTO(String description, Integer mainPhotoIndex, List<SaveDTO.ItemCodiDTO> items) {
+            this.description = description;
+            this.mainPhotoIndex = mainPhotoIndex;
+            this.items = items;
+        }
+    }
 }
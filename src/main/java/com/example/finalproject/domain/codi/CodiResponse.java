@@ -1,7 +1,6 @@
 package com.example.finalproject.domain.codi;
 
-import com.example.finalproject.domain.admin.Admin;
-import com.example.finalproject.domain.items.Items;
+import com.example.finalproject.domain.items.BrandCatalog;
 import com.example.finalproject.domain.love.Love;
 import com.example.finalproject.domain.photo.Photo;
 import lombok.Data;
@@ -71,11 +70,11 @@ public class CodiResponse {
         private String photoPath;
         private List<ItemInfo> itemInfo;
 
-        public BrandInfo(Admin admin, List<Items> items) {
-            this.brandId = admin.getId();
-            this.photoId = admin.getPhoto().getId();
-            this.photoPath = admin.getPhoto().getPath();
-            this.itemInfo = items.stream().map(ItemInfo::new).toList();
+        public BrandInfo(BrandCatalog.Brand brand) {
+            this.brandId = brand.getBrandId();
+            this.photoId = brand.getPhotoId();
+            this.photoPath = brand.getPhotoPath();
+            this.itemInfo = brand.getItems().stream().map(ItemInfo::new).toList();
         }
 
         @Data
@@ -84,10 +83,10 @@ public class CodiResponse {
             private String itemName;
             private String photoPath;
 
-            public ItemInfo(Items items) {
-                this.itemId = items.getId();
-                this.itemName = items.getName();
-                this.photoPath = items.getPhotos().getFirst().getPath();
+            public ItemInfo(BrandCatalog.Item item) {
+                this.itemId = item.getItemId();
+                this.itemName = item.getItemName();
+                this.photoPath = item.getPhotoPath();
             }
         }
     }
@@ -280,7 +279,7 @@ public class CodiResponse {
                 Photo codiPhoto = codiPhotos.getFirst(); // 첫 번째 포토만 사용
                 this.codiPhotoId = codiPhoto.getId();
                 this.photoName = codiPhoto.getUuidName();
-                this.photoPath = codiPhoto.getPath();
+                this.photoPath = codiPhoto.pathForWidth(Photo.THUMB_WIDTH);
             }
         }
     }
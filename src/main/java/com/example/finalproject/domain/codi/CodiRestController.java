@@ -1,13 +1,15 @@
 package com.example.finalproject.domain.codi;
 
+import com.example.finalproject._core.metrics.QueryBudget;
 import com.example.finalproject._core.utils.ApiUtil;
 import com.example.finalproject.domain.user.SessionUser;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -15,40 +17,53 @@ import java.util.List;
 @RestController
 public class CodiRestController {
     private final CodiService codiService;
-    private final HttpSession session;
 
 
     // 앱] 코디 등록 ✅
+    @QueryBudget(15)
     @PostMapping("/app/codi-register")
     public ResponseEntity<?> codiRegister(@Valid @RequestBody CodiRequest.SaveDTO reqDTO, Errors errors) {
         CodiResponse.SavedCodi respDTO = codiService.saveCodiAndItems(reqDTO);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
+    // 앱] 코디 등록 - 멀티파트 (사진 파일 "photos" + 코디 정보 "codi")
+    @QueryBudget(16)
+    @PostMapping(value = "/app/codi-register", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> codiRegisterMultipart(@Valid @RequestPart("codi") CodiRequest.MultipartSaveDTO reqDTO, Errors errors,
+                                                   @RequestPart("photos") List<MultipartFile> photos, SessionUser sessionUser) {
+        CodiResponse.SavedCodi respDTO = codiService.saveCodiWithPhotoFiles(reqDTO, photos, sessionUser.getId());
+        return ResponseEntity.ok(new ApiUtil<>(respDTO));
+    }
+
     // 코디 수정 페이지 ✅
+    @QueryBudget(12)
     @GetMapping("/app/codi-update-page/{codiId}")
-    public ResponseEntity<?> updatePage(@PathVariable Integer codiId) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> updatePage(@PathVariable Integer codiId, SessionUser sessionUser) {
         CodiResponse.UpdatePage respDTO = codiService.findInfoByCodiId(codiId, sessionUser.getId());
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     //앱] 코디 등록 - 아이템 연결 페이지 ✅
+    @QueryBudget(0)
     @GetMapping("/app/codi-register/add-item/{category}")
-    public ResponseEntity<?> topItemSave(@PathVariable String category) {
-        List<CodiResponse.BrandInfo> respDTO = codiService.addItemPage(category);
+    public ResponseEntity<?> topItemSave(@PathVariable String category,
+                                         @RequestParam(required = false) Integer cursor,
+                                         @RequestParam(required = false) Integer size) {
+        List<CodiResponse.BrandInfo> respDTO = codiService.addItemPage(category, cursor, size);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     // 코디 보기 페이지 (페이지내 아이템 목록 코디목록있음) ✅
+    @QueryBudget(30)
     @GetMapping("/app/codi-pages/{codiId}")
-    public ResponseEntity<?> codiPage(@PathVariable Integer codiId) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> codiPage(@PathVariable Integer codiId, SessionUser sessionUser) {
         CodiResponse.MainView respDTO = codiService.codiPage(codiId, sessionUser.getId());
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     // 공개된 코디 보기 페이지 (좋아요 false) - 로그인 안해도 볼 수 있음 ✅
+    @QueryBudget(20)
     @GetMapping("/codi-pages/{codiId}")
     public ResponseEntity<?> codiOpenPage(@PathVariable Integer codiId) {
         CodiResponse.OpenMainView respDTO = codiService.codiOpenPage(codiId);
@@ -56,9 +71,12 @@ public class CodiRestController {
     }
 
     // 유저 코디 검색 기능
+    @QueryBudget(18)
     @GetMapping("/app/search-codi")
-    public ResponseEntity<?> searchCodi(@RequestParam(defaultValue = "") String keyword) {
-        List<CodiResponse.CodiListDTO> respDTO = codiService.searchCodi(keyword.trim());
+    public ResponseEntity<?> searchCodi(@RequestParam(defaultValue = "") String keyword,
+                                        @RequestParam(required = false) Integer cursor,
+                                        @RequestParam(required = false) Integer size) {
+        List<CodiResponse.CodiListDTO> respDTO = codiService.searchCodi(keyword.trim(), cursor, size);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 }
@@ -0,0 +1,57 @@
+package com.example.finalproject.domain.codi;
+
+import com.example.finalproject._core.utils.AfterCommit;
+import com.example.finalproject._core.utils.NgramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 코디 설명 검색용 메모리 역색인
+// 앱 시작 시 전체를 색인하고, 이후에는 코디 등록이 커밋될 때마다 해당 코디만 추가한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CodiSearchIndex {
+    private final CodiRepository codiRepository;
+
+    private final NgramIndex index = new NgramIndex(1);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = codiRepository.findAllForSearchIndex();
+        rows.forEach(row -> index.put((Integer) row[0], (String) row[1]));
+        log.info("코디 검색 색인 완료 : " + index.size() + "건");
+    }
+
+    // 검색어를 포함하는 코디 목록 (순위순, 메인 사진이 있는 코디만)
+    public List<Codi> search(String keyword) {
+        int[] ids = index.search(keyword);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        Map<Integer, Codi> codiById = new HashMap<>();
+        codiRepository.findCodiWithMainPhotoByIds(Arrays.stream(ids).boxed().toList())
+                .forEach(codi -> codiById.put(codi.getId(), codi));
+
+        List<Codi> ranked = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Codi codi = codiById.get(id);
+            if (codi != null) {
+                ranked.add(codi);
+            }
+        }
+        return ranked;
+    }
+
+    // 코디 저장 후 호출
+    public void indexAfterCommit(Codi codi) {
+        Integer codiId = codi.getId();
+        String description = codi.getDescription();
+        AfterCommit.run(() -> index.put(codiId, description));
+    }
+
+}
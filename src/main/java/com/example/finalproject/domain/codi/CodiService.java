@@ -1,30 +1,41 @@
 package com.example.finalproject.domain.codi;
 
+import com.example.finalproject._core.concurrent.PageComposer;
 import com.example.finalproject._core.error.exception.Exception400;
+import com.example.finalproject._core.logging.CorrelationId;
 import com.example.finalproject._core.error.exception.Exception401;
 import com.example.finalproject._core.error.exception.Exception404;
-import com.example.finalproject.domain.admin.Admin;
+import com.example.finalproject._core.utils.Base64Util;
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.codiItems.CodiItems;
 import com.example.finalproject.domain.codiItems.CodiItemsRepository;
+import com.example.finalproject.domain.items.BrandCatalog;
 import com.example.finalproject.domain.items.Items;
 import com.example.finalproject.domain.items.ItemsRepository;
 import com.example.finalproject.domain.love.Love;
+import com.example.finalproject.domain.love.LoveCounter;
 import com.example.finalproject.domain.love.LoveRepository;
 import com.example.finalproject.domain.photo.Photo;
 import com.example.finalproject.domain.photo.PhotoRepository;
+import com.example.finalproject.domain.photo.PhotoStorage;
+import com.example.finalproject.domain.photo.PhotoUploadStaging;
+import com.example.finalproject.domain.photo.PhotoVariantService;
 import com.example.finalproject.domain.user.User;
 import com.example.finalproject.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -33,32 +44,33 @@ public class CodiService {
     private final CodiItemsRepository codiItemsRepository;
     private final PhotoRepository photoRepository;
     private final LoveRepository loveRepository;
+    private final LoveCounter loveCounter;
     private final ItemsRepository itemsRepository;
     private final UserRepository userRepository;
     private final CodiRepository codiRepository;
+    private final PhotoVariantService photoVariantService;
+    private final PhotoStorage photoStorage;
+    private final PhotoUploadStaging photoUploadStaging;
+    private final PlatformTransactionManager transactionManager;
+    private final CodiSearchIndex codiSearchIndex;
+    private final PageComposer pageComposer;
+    private final BrandCatalog brandCatalog;
     private final String uploadPath = "./upload/";
 
     //코디 등록 페이지 - 아이템 연결
-    public List<CodiResponse.BrandInfo> addItemPage(String category) {
+    public List<CodiResponse.BrandInfo> addItemPage(String category, Integer cursor, Integer size) {
         // 카테고리 이름 유효성 검사
         if (!category.equals("top") && !category.equals("bottom")) {
             throw new Exception400("유효한 카테고리 이름이 아닙니다.");
         }
-        //모든 브랜드 정보 불러오기
-        List<Items> itemsList = itemsRepository.findTopItemsWithAdminAndPhoto(category);
-
-        // Admin 별로 Items 리스트를 그룹화
-        Map<Integer, List<Items>> adminItemMap = itemsList.stream()
-                .collect(Collectors.groupingBy(item -> Integer.valueOf(item.getAdmin().getId())));
-
-        // 그룹화된 데이터를 기반으로 BrandInfo 리스트 생성
-        return adminItemMap.entrySet().stream()
-                .map(entry -> {
-                    Admin admin = entry.getValue().get(0).getAdmin();
-                    List<Items> adminItemList = entry.getValue();
-                    return new CodiResponse.BrandInfo(admin, adminItemList);
-                })
-                .collect(Collectors.toList());
+        // 메모리 색인에서 브랜드 단위로 (다음 페이지는 마지막 brandId 를 cursor 로)
+        // cursor, size 를 둘 다 보내지 않는 기존 앱은 예전처럼 브랜드 전체
+        List<BrandCatalog.Brand> brands = cursor == null && size == null
+                ? brandCatalog.all(category)
+                : brandCatalog.page(category, cursor, CursorPage.limit(size).getPageSize());
+        return brands.stream()
+                .map(CodiResponse.BrandInfo::new)
+                .toList();
     }
 
 
@@ -70,8 +82,8 @@ public class CodiService {
         // codiId로 코디 메인 사진 조회
         List<Photo> mainCodiPhotos = photoRepository.findByCodiId(foundCodi.getId());
 
-        // 코디에 대한 좋아요 갯수 조회
-        Long totalLove = loveRepository.countTotalLove(foundCodi.getId());
+        // 코디에 대한 좋아요 갯수 조회 (메모리 카운터)
+        Long totalLove = loveCounter.get(foundCodi.getId());
 
         // codiItems로 조회해서 Codi 정보랑 연계된 Items조회후 사진 가져오기
         List<CodiItems> codiItemsList = codiItemsRepository.findByCodiWithItems(foundCodi.getId());
@@ -89,26 +101,35 @@ public class CodiService {
 
     // 코디 보기 페이지 요청 - 페이지 내 아이템 목록, 크리에이터 코디목록 포함
     public CodiResponse.MainView codiPage(Integer codiId, Integer userId) {
-
-        Codi foundCodi = codiRepository.findById(codiId).orElseThrow(() -> new Exception404("정보를 찾을 수 없습니다."));
+        // 서로 독립적인 조회는 동시에 실행
+        PageComposer.Page page = pageComposer.open();
+        PageComposer.Part<Codi> foundCodi = page.fork("codi", () ->
+                codiRepository.findById(codiId).orElseThrow(() -> new Exception404("정보를 찾을 수 없습니다.")));
         // codiId로 코디 메인 사진들 조회
-        List<Photo> mainCodiPhotos = photoRepository.findByCodiId(foundCodi.getId());
+        PageComposer.Part<List<Photo>> mainCodiPhotos = page.fork("mainCodiPhotos", () ->
+                photoRepository.findByCodiId(codiId));
 
-        // 해당 코디에 대한 사용자의 좋아요 상태 확인 + 해당 코디의 전체 좋아요 갯수
-        Optional<Love> loveStatus = loveRepository.findByCodiIdAndUserLoveStatus(foundCodi.getId(), userId);
-        Long totalLove = loveRepository.countTotalLove(foundCodi.getId());
+        // 해당 코디에 대한 사용자의 좋아요 상태 확인 (실패해도 좋아요 안 한 상태로 표시)
+        PageComposer.Part<Optional<Love>> loveStatus = page.fork("loveStatus", () ->
+                loveRepository.findByCodiIdAndUserLoveStatus(codiId, userId)).orElse(Optional.empty());
 
         // codiItems로 조회해서 Codi 정보랑 연계된 Items조회후 사진 가져오기
-        List<CodiItems> codiItemsList = codiItemsRepository.findByCodiWithItems(foundCodi.getId());
-        List<Integer> itemsIdList = codiItemsList.stream().map(codiItems -> codiItems.getItems().getId()).toList();
-        List<Photo> codiItemPhotos = photoRepository.findByItemsIds(itemsIdList);
+        PageComposer.Part<List<Photo>> codiItemPhotos = page.fork("codiItemPhotos", () -> {
+            List<CodiItems> codiItemsList = codiItemsRepository.findByCodiWithItems(codiId);
+            List<Integer> itemsIdList = codiItemsList.stream().map(codiItems -> codiItems.getItems().getId()).toList();
+            return photoRepository.findByItemsIds(itemsIdList);
+        });
 
-        // CreatorId로 모든 코디를 조회해서 여러 코디 메인 사진 가져오기
-        Codi selectedCodi = codiItemsList.getFirst().getCodi();
-        List<Photo> otherCodiPhotos = photoRepository.findByUserIdWithCodiesAndPhoto(selectedCodi.getUser().getId());
+        // 크리에이터의 다른 코디 메인 사진들 (코디 조회 후 시작, 실패해도 빈 목록으로 표시)
+        PageComposer.Part<List<Photo>> otherCodiPhotos = page.fork("otherCodiPhotos", foundCodi, codi ->
+                photoRepository.findByUserIdWithCodiesAndPhoto(codi.getUser().getId())).orElse(List.of());
+        page.join();
 
-        return new CodiResponse.MainView(
-                selectedCodi, loveStatus, totalLove, mainCodiPhotos, codiItemPhotos, otherCodiPhotos);
+        // 해당 코디의 전체 좋아요 갯수 (메모리 카운터)
+        Long totalLove = loveCounter.get(codiId);
+
+        return new CodiResponse.MainView(foundCodi.get(), loveStatus.get(), totalLove,
+                mainCodiPhotos.get(), codiItemPhotos.get(), otherCodiPhotos.get());
 
     }
 
@@ -128,6 +149,7 @@ public class CodiService {
         Codi savedCodi = codiRepository.save(Codi.builder()
                 .description(reqDTO.getDescription())
                 .user(user).build());
+        codiSearchIndex.indexAfterCommit(savedCodi);
 
         // 새로 등록된 코디 사진을 파일로 저장하고 DB에 영속화 그리고 코디랑 연결
         List<Photo> savedPhotos = new ArrayList<>();
@@ -147,36 +169,111 @@ public class CodiService {
 
     }
 
-    @Transactional
-    public Photo uploadCodiImage(CodiRequest.SaveDTO.AppSaveDTO image, Codi codi) {
+    // 앱] 멀티파트 코디 등록
+    // 1. 사진 파일은 트랜잭션 밖에서 가상 스레드로 동시에 저장 (DB 커넥션을 잡고 디스크 I/O 하지 않도록)
+    // 2. 코디 + 사진 + 코디아이템은 짧은 트랜잭션 하나로 저장
+    // 3. DB 저장이 실패하면 먼저 저장한 사진 파일의 참조를 해제해서 버려진 파일이 남지 않게 함
+    public CodiResponse.SavedCodi saveCodiWithPhotoFiles(CodiRequest.MultipartSaveDTO reqDTO, List<MultipartFile> photoFiles, Integer sessionUserId) {
+        if (photoFiles == null || photoFiles.isEmpty() || photoFiles.stream().anyMatch(MultipartFile::isEmpty)) {
+            throw new Exception400("코디 사진을 넣어 주셔야 합니다.");
+        }
+        int mainIndex = reqDTO.getMainPhotoIndex() == null ? 0 : reqDTO.getMainPhotoIndex();
+        if (mainIndex < 0 || mainIndex >= photoFiles.size()) {
+            throw new Exception400("대표사진 순번이 올바르지 않습니다.");
+        }
 
-        // 파일명 중복 방지를 위해서 UUID 적용
-        String imgFilename = UUID.randomUUID() + "_" + image.getPhotoName();
+        List<String> dbPaths = storeConcurrently(photoFiles);
+        try {
+            CodiResponse.SavedCodi respDTO = transactionTemplate().execute(status -> {
+                // 작성자는 요청 본문이 아니라 로그인 세션에서
+                User user = userRepository.findById(sessionUserId)
+                        .orElseThrow(() -> new Exception404("사용자 정보를 찾을 수 없습니다."));
+
+                Codi savedCodi = codiRepository.save(Codi.builder()
+                        .description(reqDTO.getDescription())
+                        .user(user).build());
+                codiSearchIndex.indexAfterCommit(savedCodi);
+
+                List<Photo> photos = new ArrayList<>();
+                for (int i = 0; i < photoFiles.size(); i++) {
+                    photos.add(Photo.builder()
+                            .codi(savedCodi)
+                            .path(dbPaths.get(i))
+                            .uuidName(UUID.randomUUID() + "_" + photoFiles.get(i).getOriginalFilename())
+                            .originalFileName(photoFiles.get(i).getOriginalFilename())
+                            .sort(Photo.Sort.CODI)
+                            .isMainPhoto(i == mainIndex)
+                            .createdAt(Timestamp.from(Instant.now())).build());
+                }
+                List<Photo> savedPhotos = photoRepository.saveAll(photos);
+
+                // 코디와 아이템 연결
+                if (reqDTO.getItems() != null && !reqDTO.getItems().isEmpty()) {
+                    List<Integer> reqItemsIds = reqDTO.getItems().stream()
+                            .map(CodiRequest.SaveDTO.ItemCodiDTO::getItemsId).toList();
+                    codiItemsRepository.saveAll(itemsRepository.findItemsByItemId(reqItemsIds).stream()
+                            .map(items -> CodiItems.builder()
+                                    .codi(savedCodi)
+                                    .items(items).build())
+                            .toList());
+                }
+
+                // 목록용 축소본 생성 예약 (커밋 후)
+                savedPhotos.forEach(photoVariantService::generateAfterCommit);
+                return new CodiResponse.SavedCodi(savedCodi, savedPhotos.get(mainIndex));
+            });
+            return respDTO;
+        } catch (RuntimeException e) {
+            dbPaths.forEach(photoStorage::release);
+            throw e;
+        }
+    }
 
-        // resourceHandler로 해당 폴더 개방 작업을 WebConfig에서 등록하고 여기 와야됨
-        // 파일이름이랑 개방된 폴더를 조합해서 경로생성
-        Path imgPath = Paths.get(uploadPath + imgFilename);
+    // 사진 파일들을 가상 스레드로 동시에 저장, 하나라도 실패하면 저장된 것들을 정리하고 예외
+    private List<String> storeConcurrently(List<MultipartFile> photoFiles) {
+        List<Future<String>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile photoFile : photoFiles) {
+                futures.add(executor.submit(CorrelationId.wrap(() ->
+                        photoStorage.store(photoFile.getInputStream(), photoFile.getOriginalFilename()))));
+            }
+        }
 
-        try {
-            Files.createDirectories(imgPath.getParent());
-        } catch (IOException e) {
-            // 폴더 생성 실패 시 처리 로직
-            System.err.println("Failed to create directory: " + imgPath.getParent());
-            e.printStackTrace();
-            // 필요하면 예외를 던지거나 다른 처리를 할 수 있습니다.
+        List<String> dbPaths = new ArrayList<>();
+        RuntimeException failure = null;
+        for (Future<String> future : futures) {
+            try {
+                dbPaths.add(future.get());
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new RuntimeException(e);
+            }
         }
+        if (failure != null) {
+            dbPaths.forEach(photoStorage::release);
+            throw failure;
+        }
+        return dbPaths;
+    }
 
-        System.out.println("경로 설정 어떻게 되어있는거야?? " + imgPath);
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
 
-        // 파일저장 핵심로직
-        // 파일 저장 로직 매개변수로 경로와 사진의 바이트 정보를 요구함
-        // 파일 저장 향후 파일 사이즈 유효성 추가 해야될것 TODO
-        validationCheckAndSave(image, imgPath);
+    @Transactional
+    public Photo uploadCodiImage(CodiRequest.SaveDTO.AppSaveDTO image, Codi codi) {
+
+        // 파일명 중복 방지를 위해서 UUID 적용
+        String imgFilename = UUID.randomUUID() + "_" + image.getPhotoName();
 
-        // DB저장 전 DB전용으로 경로 수정
-        String dbPath = "/upload/" + imgFilename;
+        // 파일저장 핵심로직 : 내용 기반 저장소에 저장 후 DB용 경로 반환
+        // 파일 저장 향후 파일 사이즈 유효성 추가 해야될것 TODO
+        String dbPath = validationCheckAndSave(image);
+        Photo photo;
         if (image.getIsMainPhoto()) {
-            return photoRepository.save(Photo.builder()
+            photo = photoRepository.save(Photo.builder()
                     .codi(codi)
                     .path(dbPath)
                     .uuidName(imgFilename)
@@ -185,7 +282,7 @@ public class CodiService {
                     .isMainPhoto(true)  // 대표사진이라면 꼭 true 남겨주기
                     .createdAt(Timestamp.from(Instant.now())).build());
         } else {
-            return photoRepository.save(Photo.builder()
+            photo = photoRepository.save(Photo.builder()
                     .codi(codi)
                     .path(dbPath)
                     .uuidName(imgFilename)
@@ -194,18 +291,21 @@ public class CodiService {
                     .isMainPhoto(false)
                     .createdAt(Timestamp.from(Instant.now())).build());
         }
+
+        // 목록용 축소본 생성 예약
+        photoVariantService.generateAfterCommit(photo);
+        return photo;
     }
 
 
-    // 파일로 저장 + 예외처리
+    // 파일로 저장 + 예외처리 (내용 기반 저장소, 반환값은 DB용 경로)
     @Transactional
-    protected void validationCheckAndSave(CodiRequest.SaveDTO.AppSaveDTO image, Path imgPath) {
-        try {
-            byte[] decodedBytes = Base64.getDecoder().decode(image.getPhotoBase64());
-            Files.write(imgPath, decodedBytes);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    protected String validationCheckAndSave(CodiRequest.SaveDTO.AppSaveDTO image) {
+        // 미리 올린 사진이 있으면 그 파일을, 없으면 base64를 읽는 만큼만 디코딩하면서 저장 (전체 byte[]를 만들지 않음)
+        if (image.getUploadId() != null) {
+            return photoStorage.store(photoUploadStaging.take(image.getUploadId()), image.getPhotoName());
         }
+        return photoStorage.store(Base64Util.decodingStream(image.getPhotoBase64()), image.getPhotoName());
     }
 
 
@@ -237,15 +337,17 @@ public class CodiService {
     }
 
     // 유저 코디 검색 기능
-    public List<CodiResponse.CodiListDTO> searchCodi(String keyword) {
+    public List<CodiResponse.CodiListDTO> searchCodi(String keyword, Integer cursor, Integer size) {
         List<Codi> codiList;
 
         if (keyword == null || keyword.isEmpty()) {
-            codiList = codiRepository.findByAllCodi();
+            // 검색어가 없으면 전체 목록을 커서 단위로 (다음 페이지는 마지막 codiId 를 cursor 로)
+            codiList = codiRepository.findPageAfter(cursor, CursorPage.limit(size));
             return codiList.stream().map(CodiResponse.CodiListDTO::new).collect(Collectors.toList());
         }
 
-        codiList = codiRepository.findByDescriptionContaining(keyword);
+        // LIKE 대신 메모리 색인으로 검색 (순위순)
+        codiList = codiSearchIndex.search(keyword);
         return codiList.stream().map(CodiResponse.CodiListDTO::new).collect(Collectors.toList());
     }
 }
@@ -11,7 +11,7 @@ import java.sql.Timestamp;
 
 @NoArgsConstructor
 @Entity
-@Table(name = "delivery_tb")
+@Table(name = "delivery_tb", indexes = @Index(name = "idx_delivery_phone_number", columnList = "phone_number"))
 @Data
 public class Delivery {
     @Id
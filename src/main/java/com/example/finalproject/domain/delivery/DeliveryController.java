@@ -1,5 +1,6 @@
 package com.example.finalproject.domain.delivery;
 
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.admin.Admin;
 import com.example.finalproject.domain.orderHistory.OrderHistoryResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,10 +20,14 @@ public class DeliveryController {
 
     // 배송 관리 페이지 (브랜드)
     @GetMapping("/api/delivery-manage")
-    public String deliveryManage(String searchBy, @RequestParam(defaultValue = "") String keyword, HttpServletRequest request) {
+    public String deliveryManage(String searchBy, @RequestParam(defaultValue = "") String keyword,
+                                 @RequestParam(required = false) Integer cursor, HttpServletRequest request) {
         Admin sessionBrand = (Admin) session.getAttribute("sessionBrand");
-        List<OrderHistoryResponse.DeliveryList> orderDeliveryList = deliveryService.findByOrderHistoryItemsAdminAndDelivery(sessionBrand.getId(), searchBy, keyword);
+        List<OrderHistoryResponse.DeliveryList> orderDeliveryList = deliveryService.findByOrderHistoryItemsAdminAndDelivery(sessionBrand.getId(), searchBy, keyword, cursor);
         request.setAttribute("orderDeliveryList", orderDeliveryList);
+        // 다음 페이지 링크 (검색 조건 유지)
+        Integer nextCursor = CursorPage.nextCursor(orderDeliveryList, CursorPage.limit(null), OrderHistoryResponse.DeliveryList::getOrderHistoryId);
+        request.setAttribute("nextUrl", CursorPage.nextUrl("/api/delivery-manage", nextCursor, searchBy, keyword));
         return "delivery/delivery-manage";
     }
 
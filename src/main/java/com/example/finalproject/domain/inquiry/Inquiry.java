@@ -12,7 +12,7 @@ import java.sql.Timestamp;
 
 @NoArgsConstructor
 @Entity
-@Table(name = "inquiry_tb")
+@Table(name = "inquiry_tb", indexes = @Index(name = "idx_inquiry_admin", columnList = "admin_id, id"))
 @Data
 public class Inquiry {
     @Id
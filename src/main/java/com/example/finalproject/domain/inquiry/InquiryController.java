@@ -1,5 +1,6 @@
 package com.example.finalproject.domain.inquiry;
 
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.admin.Admin;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -21,11 +22,15 @@ public class InquiryController {
 
     // 문의 관리 페이지 - 목록 조회
     @GetMapping("/api/inquiry-manage")
-    public String inquiryManage(HttpServletRequest req, String searchBy, @RequestParam(defaultValue = "") String keyword) {
+    public String inquiryManage(HttpServletRequest req, String searchBy, @RequestParam(defaultValue = "") String keyword,
+                                @RequestParam(required = false) Integer cursor) {
         Admin sessionBrand = (Admin) session.getAttribute("sessionBrand");
         List<InquiryResponse.List> respList =
-                inquiryService.findAllInquiryWithUser(sessionBrand.getId(), searchBy, keyword);
+                inquiryService.findAllInquiryWithUser(sessionBrand.getId(), searchBy, keyword, cursor);
         req.setAttribute("inquiryList", respList);
+        // 다음 페이지 링크 (검색 조건 유지)
+        Integer nextCursor = CursorPage.nextCursor(respList, CursorPage.limit(null), InquiryResponse.List::getId);
+        req.setAttribute("nextUrl", CursorPage.nextUrl("/api/inquiry-manage", nextCursor, searchBy, keyword));
         return "inquiry/inquiry-manage";
     }
 
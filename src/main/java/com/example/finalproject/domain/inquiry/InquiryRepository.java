@@ -13,18 +13,6 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Integer> {
     @Query("select i from Inquiry i join i.user u join fetch i.admin a where i.id = :inquiryId")
     Optional<Inquiry> findByInquiryId(@Param("inquiryId") Integer inquiryId);
 
-    // 브랜드 관리자 id 로 사용자 문의 모두 조회하기 생성일별 내림차순 정렬
-    @Query("select i from Inquiry i join fetch i.user u where i.admin.id = :adminId order by i.createdAt desc")
-    List<Inquiry> findAllByAdminIdWithUser(@Param("adminId") Integer adminId);
-
-    // 브랜드 관리자 id 로 사용자 문의 유저명 검색 조회하기 생성일별 내림차순 정렬
-    @Query("select i from Inquiry i join fetch i.user u where i.admin.id = :adminId and i.user.myName like %:keyword% order by i.createdAt desc")
-    List<Inquiry> findAllByAdminIdWithUserAndUsername(@Param("adminId") Integer adminId, @Param("keyword") String keyword);
-
-    // 브랜드 관리자 id 로 사용자 문의 제목 검색 조회하기 생성일별 내림차순 정렬
-    @Query("select i from Inquiry i join fetch i.user u where i.admin.id = :adminId and i.title like %:keyword% order by i.createdAt desc")
-    List<Inquiry> findAllByAdminIdWithUserAndTitle(@Param("adminId") Integer adminId, @Param("keyword") String keyword);
-
     // 문의 번호로 문의와 사용자 정보 가져오기
     @Query("select i from Inquiry i join fetch i.user u where i.id = :inquiryId")
     Optional<Inquiry> findByInquiryIdWithUser(@Param("inquiryId") Integer inquiryId);
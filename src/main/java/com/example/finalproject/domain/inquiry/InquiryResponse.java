@@ -119,20 +119,21 @@ public class InquiryResponse {
         private String createdAt;
         private String commentedAt;
 
-        public List(Inquiry inquiry, User user) {
-            this.id = inquiry.getId();
-            this.myName = user.getMyName();
-            this.title = inquiry.getTitle();
-            this.status = inquiry.getStatus();
+        // 검색 쿼리에서 DTO 로 바로 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+        public List(Integer id, String myName, String title, Boolean status, Timestamp createdAt, Timestamp commentedAt) {
+            this.id = id;
+            this.myName = myName;
+            this.title = title;
+            this.status = status;
             SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            this.createdAt = dateFormat.format(inquiry.getCreatedAt());
+            this.createdAt = dateFormat.format(createdAt);
 
-            if (!inquiry.getStatus()) {
+            if (!status) {
                 this.statusMsg = "미응답";
                 this.commentedAt = "";
             } else {
                 this.statusMsg = "응답완료";
-                this.commentedAt = dateFormat.format(inquiry.getCommentedAt());
+                this.commentedAt = dateFormat.format(commentedAt);
             }
         }
     }
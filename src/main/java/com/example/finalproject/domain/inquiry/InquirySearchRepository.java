@@ -0,0 +1,37 @@
+package com.example.finalproject.domain.inquiry;
+
+import com.example.finalproject._core.utils.SearchQuery;
+import com.example.finalproject._core.utils.SearchQuery.Match;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 브랜드 문의 관리 검색
+// inquiry_tb (admin_id, id) 인덱스로 최신 문의부터 커서 다음 size 개만 읽는다
+@Repository
+public class InquirySearchRepository {
+    // 문의 목록 : 이름, 제목
+    private static final SearchQuery<InquiryResponse.List> INQUIRY_LIST = new SearchQuery<>(
+            InquiryResponse.List.class,
+            "select new com.example.finalproject.domain.inquiry.InquiryResponse$List(" +
+                    "i.id, u.myName, i.title, i.status, i.createdAt, i.commentedAt)",
+            "from Inquiry i join i.user u where i.admin.id = :ownerId",
+            "i.id")
+            .filter("username", "u.myName", Match.CONTAINS)
+            .filter("title", "i.title", Match.CONTAINS);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public List<InquiryResponse.List> findInquiryList(Integer adminId, String searchBy, String keyword, Integer cursor, Pageable limit) {
+        return INQUIRY_LIST.find(em, adminId, searchBy, keyword, cursor, limit);
+    }
+
+    // 같은 검색 조건에서 inquiryId 이하인 문의 수 (게시글 번호)
+    public long countUpTo(Integer adminId, String searchBy, String keyword, Integer inquiryId) {
+        return INQUIRY_LIST.countUpTo(em, adminId, searchBy, keyword, inquiryId);
+    }
+}
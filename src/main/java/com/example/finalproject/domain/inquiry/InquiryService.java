@@ -1,6 +1,7 @@
 package com.example.finalproject.domain.inquiry;
 
 import com.example.finalproject._core.error.exception.*;
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.admin.Admin;
 import com.example.finalproject.domain.admin.AdminRepository;
 import com.example.finalproject.domain.user.SessionUser;
@@ -16,6 +17,7 @@ import java.util.List;
 @Service
 public class InquiryService {
     private final InquiryRepository inquiryRepository;
+    private final InquirySearchRepository inquirySearchRepository;
     private final AdminRepository adminRepository;
     private final UserRepository userRepository;
 
@@ -50,23 +52,18 @@ public class InquiryService {
         return new InquiryResponse.Save(savedInquiry);
     }
 
-    // 브랜드 관리자 ID로 모든 문의 조회
-    public List<InquiryResponse.List> findAllInquiryWithUser(Integer adminId, String searchBy, String keyword) {
-
-        List<Inquiry> inquiryList = switch (searchBy) {
-            case "username" -> inquiryRepository.findAllByAdminIdWithUserAndUsername(adminId, keyword);
-            case "title" -> inquiryRepository.findAllByAdminIdWithUserAndTitle(adminId, keyword);
-            case null, default -> inquiryRepository.findAllByAdminIdWithUser(adminId);
-        };
-
+    // 브랜드 관리자 ID로 모든 문의 조회 - 최신순 커서 페이징
+    public List<InquiryResponse.List> findAllInquiryWithUser(Integer adminId, String searchBy, String keyword, Integer cursor) {
         List<InquiryResponse.List> respList =
-                inquiryList.stream().map(inquiry ->
-                        new InquiryResponse.List(inquiry, inquiry.getUser())).toList();
+                inquirySearchRepository.findInquiryList(adminId, searchBy, keyword, cursor, CursorPage.limit(null));
+        if (respList.isEmpty()) {
+            return respList;
+        }
 
-        int a = 1;
-        for (int i = respList.size(); i > 0; i--) {
-            respList.get(i - 1).setNum(a);
-            a++;
+        // 게시글 번호 : 같은 검색 조건에서 오래된 문의부터 1번 (페이지 첫 문의 번호에서 1씩 감소)
+        long num = inquirySearchRepository.countUpTo(adminId, searchBy, keyword, respList.getFirst().getId());
+        for (InquiryResponse.List resp : respList) {
+            resp.setNum((int) num--);
         }
         return respList;
     }
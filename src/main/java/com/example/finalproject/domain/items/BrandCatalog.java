@@ -0,0 +1,329 @@
+package com.example.finalproject.domain.items;
+
+import com.example.finalproject._core.utils.AfterCommit;
+import com.example.finalproject.domain.photo.Photo;
+import com.example.finalproject.domain.photo.PhotoRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 코디 등록 - 아이템 선택 화면용 메모리 색인 (상위 카테고리 -> 브랜드 -> 아이템)
+// 앱 시작 시 전체를 읽어 두고, 이후에는 아이템 저장/수정/삭제가 커밋될 때마다 그 아이템만 다시 읽어 끼워 넣는다
+// 브랜드 사진이 바뀌면 그 브랜드의 사진 값만 다시 읽어 모든 선반에서 바꾼다
+// 카테고리마다 브랜드 번호 int[] 와 브랜드 배열을 번호순으로 같이 들고 있어서
+// 조회는 이진 탐색 + 배열 자르기뿐이고 요청마다 그룹핑(Integer 박싱)하지 않는다
+// 선반(Shelf)/브랜드는 불변이라 조회는 잠금 없이, 갱신은 복사본을 만들어 통째로 바꿔 끼운다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BrandCatalog {
+    private final ItemsRepository itemsRepository;
+    private final PhotoRepository photoRepository;
+
+    private volatile Map<String, Shelf> shelves = Map.of(); // 상위 카테고리 -> 선반
+    private final Map<Integer, Location> locations = new HashMap<>(); // 아이템 번호 -> 현재 위치 (갱신 시에만 사용)
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        locations.clear();
+        Map<String, List<Row>> rowsByMain = new HashMap<>();
+        for (Object[] row : itemsRepository.findAllForBrandCatalog()) {
+            Row r = new Row(row);
+            // 메인 사진이 여러 장이면 한 장만
+            if (locations.putIfAbsent(r.itemId, new Location(r.main, r.brandId)) == null) {
+                rowsByMain.computeIfAbsent(r.main, main -> new ArrayList<>()).add(r);
+            }
+        }
+        Map<String, Shelf> loaded = new HashMap<>();
+        rowsByMain.forEach((main, rows) -> loaded.put(main, Shelf.of(rows)));
+        shelves = Map.copyOf(loaded);
+        log.info("코디 아이템 선택 색인 완료 : " + locations.size() + "건");
+    }
+
+    // 상위 카테고리의 브랜드 전체 (브랜드 번호순)
+    public List<Brand> all(String main) {
+        Shelf shelf = shelves.get(main);
+        return shelf == null ? List.of() : List.of(shelf.brands);
+    }
+
+    // 상위 카테고리의 브랜드 목록 (브랜드 번호순, cursor 다음 브랜드부터 size 개)
+    public List<Brand> page(String main, Integer cursor, int size) {
+        Shelf shelf = shelves.get(main);
+        if (shelf == null) {
+            return List.of();
+        }
+        return shelf.page(cursor == null ? Integer.MIN_VALUE : cursor, size);
+    }
+
+    // 아이템 저장/수정 후 호출 (카테고리, 사진, 삭제 상태가 바뀌었을 수 있으므로 커밋된 값을 다시 읽음)
+    public void refreshAfterCommit(Integer itemId) {
+        AfterCommit.run(() -> refresh(itemId));
+    }
+
+    public void removeAfterCommit(Integer itemId) {
+        AfterCommit.run(() -> remove(itemId));
+    }
+
+    // 브랜드 사진 등록/수정 후 호출
+    public void refreshBrandAfterCommit(Integer brandId) {
+        AfterCommit.run(() -> refreshBrand(brandId));
+    }
+
+    private synchronized void refreshBrand(Integer brandId) {
+        Optional<Photo> photoOP;
+        try {
+            photoOP = photoRepository.findByAdminId(brandId);
+        } catch (RuntimeException e) {
+            log.warn("코디 아이템 선택 색인 브랜드 사진 갱신 실패 : brandId=" + brandId, e);
+            return;
+        }
+        if (photoOP.isEmpty()) {
+            return;
+        }
+        Photo photo = photoOP.get();
+        shelves.forEach((main, shelf) -> replace(main, shelf.withBrandPhoto(brandId, photo.getId(), photo.getPath())));
+    }
+
+    private synchronized void refresh(Integer itemId) {
+        List<Object[]> rows;
+        try {
+            rows = itemsRepository.findForBrandCatalog(itemId);
+        } catch (RuntimeException e) {
+            // 이미 커밋된 요청을 실패로 돌리지 않음 (다음 갱신이나 재시작 때 맞춰짐)
+            log.warn("코디 아이템 선택 색인 갱신 실패 : itemId=" + itemId, e);
+            return;
+        }
+        remove(itemId);
+        if (rows.isEmpty()) {
+            return; // 삭제되었거나 메인 사진이 아직 없음
+        }
+        Row row = new Row(rows.getFirst());
+        Shelf shelf = shelves.getOrDefault(row.main, Shelf.EMPTY);
+        replace(row.main, shelf.with(row));
+        locations.put(itemId, new Location(row.main, row.brandId));
+    }
+
+    private synchronized void remove(Integer itemId) {
+        Location location = locations.remove(itemId);
+        if (location == null) {
+            return;
+        }
+        Shelf shelf = shelves.get(location.main());
+        if (shelf != null) {
+            replace(location.main(), shelf.without(location.brandId(), itemId));
+        }
+    }
+
+    private void replace(String main, Shelf shelf) {
+        Map<String, Shelf> copy = new HashMap<>(shelves);
+        if (shelf.brandIds.length == 0) {
+            copy.remove(main);
+        } else {
+            copy.put(main, shelf);
+        }
+        shelves = Map.copyOf(copy);
+    }
+
+
+    private record Location(String main, int brandId) {
+    }
+
+    // 쿼리 한 줄 (ItemsRepository.findAllForBrandCatalog 컬럼 순서)
+    private static class Row {
+        private final int itemId;
+        private final String itemName;
+        private final String photoPath;
+        private final int brandId;
+        private final Integer brandPhotoId;
+        private final String brandPhotoPath;
+        private final String main;
+
+        Row(Object[] row) {
+            this.itemId = (Integer) row[0];
+            this.itemName = (String) row[1];
+            this.photoPath = (String) row[2];
+            this.brandId = (Integer) row[3];
+            this.brandPhotoId = (Integer) row[4];
+            this.brandPhotoPath = (String) row[5];
+            this.main = (String) row[6];
+        }
+    }
+
+    // 카테고리 하나의 브랜드들 (brandIds[i] 가 brands[i] 의 번호, 오름차순)
+    private static class Shelf {
+        private static final Shelf EMPTY = new Shelf(new int[0], new Brand[0]);
+
+        private final int[] brandIds;
+        private final Brand[] brands;
+
+        private Shelf(int[] brandIds, Brand[] brands) {
+            this.brandIds = brandIds;
+            this.brands = brands;
+        }
+
+        static Shelf of(List<Row> rows) {
+            rows.sort(Comparator.comparingInt((Row row) -> row.brandId).thenComparingInt(row -> row.itemId));
+            List<Brand> brands = new ArrayList<>();
+            int from = 0;
+            for (int i = 1; i <= rows.size(); i++) {
+                if (i == rows.size() || rows.get(i).brandId != rows.get(from).brandId) {
+                    List<Row> brandRows = rows.subList(from, i);
+                    Item[] items = new Item[brandRows.size()];
+                    for (int j = 0; j < items.length; j++) {
+                        items[j] = new Item(brandRows.get(j));
+                    }
+                    brands.add(new Brand(brandRows.getLast(), items));
+                    from = i;
+                }
+            }
+            int[] brandIds = new int[brands.size()];
+            for (int i = 0; i < brandIds.length; i++) {
+                brandIds[i] = brands.get(i).brandId;
+            }
+            return new Shelf(brandIds, brands.toArray(Brand[]::new));
+        }
+
+        List<Brand> page(int cursor, int size) {
+            int at = Arrays.binarySearch(brandIds, cursor);
+            int from = at >= 0 ? at + 1 : -at - 1;
+            int to = Math.min(brands.length, from + size);
+            return from >= to ? List.of() : List.of(Arrays.copyOfRange(brands, from, to));
+        }
+
+        Shelf with(Row row) {
+            int at = Arrays.binarySearch(brandIds, row.brandId);
+            if (at >= 0) {
+                Brand[] copy = brands.clone();
+                copy[at] = brands[at].with(row);
+                return new Shelf(brandIds, copy);
+            }
+            int insertAt = -at - 1;
+            return new Shelf(insert(brandIds, insertAt, row.brandId),
+                    insert(brands, insertAt, new Brand(row, new Item[]{new Item(row)})));
+        }
+
+        Shelf without(int brandId, int itemId) {
+            int at = Arrays.binarySearch(brandIds, brandId);
+            if (at < 0) {
+                return this;
+            }
+            Brand brand = brands[at].without(itemId);
+            if (brand != null) {
+                Brand[] copy = brands.clone();
+                copy[at] = brand;
+                return new Shelf(brandIds, copy);
+            }
+            // 브랜드의 마지막 아이템이면 브랜드째 제외
+            return new Shelf(delete(brandIds, at), delete(brands, at));
+        }
+
+        Shelf withBrandPhoto(int brandId, Integer photoId, String photoPath) {
+            int at = Arrays.binarySearch(brandIds, brandId);
+            if (at < 0) {
+                return this;
+            }
+            Brand[] copy = brands.clone();
+            copy[at] = new Brand(brandId, photoId, photoPath, brands[at].items);
+            return new Shelf(brandIds, copy);
+        }
+    }
+
+    // 브랜드 하나와 그 브랜드의 아이템 (itemIds[i] 가 items[i] 의 번호, 오름차순)
+    public static class Brand {
+        @Getter
+        private final int brandId;
+        @Getter
+        private final Integer photoId;
+        @Getter
+        private final String photoPath;
+        private final int[] itemIds;
+        private final Item[] items;
+
+        private Brand(int brandId, Integer photoId, String photoPath, Item[] items) {
+            this.brandId = brandId;
+            this.photoId = photoId;
+            this.photoPath = photoPath;
+            this.items = items;
+            this.itemIds = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                itemIds[i] = items[i].itemId;
+            }
+        }
+
+        private Brand(Row row, Item[] items) {
+            this(row.brandId, row.brandPhotoId, row.brandPhotoPath, items);
+        }
+
+        public List<Item> getItems() {
+            return List.of(items);
+        }
+
+        // 아이템 추가 또는 교체 (브랜드 사진도 최신 값으로)
+        private Brand with(Row row) {
+            int at = Arrays.binarySearch(itemIds, row.itemId);
+            Item[] copy;
+            if (at >= 0) {
+                copy = items.clone();
+                copy[at] = new Item(row);
+            } else {
+                copy = insert(items, -at - 1, new Item(row));
+            }
+            return new Brand(row, copy);
+        }
+
+        // 아이템 제외 (남은 아이템이 없으면 null)
+        private Brand without(int itemId) {
+            int at = Arrays.binarySearch(itemIds, itemId);
+            if (at < 0) {
+                return this;
+            }
+            return items.length == 1 ? null : new Brand(brandId, photoId, photoPath, delete(items, at));
+        }
+    }
+
+    @Getter
+    public static class Item {
+        private final int itemId;
+        private final String itemName;
+        private final String photoPath;
+
+        private Item(Row row) {
+            this.itemId = row.itemId;
+            this.itemName = row.itemName;
+            this.photoPath = row.photoPath;
+        }
+    }
+
+    private static int[] insert(int[] array, int at, int value) {
+        int[] copy = new int[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, at);
+        copy[at] = value;
+        System.arraycopy(array, at, copy, at + 1, array.length - at);
+        return copy;
+    }
+
+    private static <T> T[] insert(T[] array, int at, T value) {
+        T[] copy = Arrays.copyOf(array, array.length + 1);
+        copy[at] = value;
+        System.arraycopy(array, at, copy, at + 1, array.length - at);
+        return copy;
+    }
+
+    private static int[] delete(int[] array, int at) {
+        int[] copy = new int[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, at);
+        System.arraycopy(array, at + 1, copy, at, array.length - at - 1);
+        return copy;
+    }
+
+    private static <T> T[] delete(T[] array, int at) {
+        T[] copy = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, at + 1, copy, at, array.length - at - 1);
+        return copy;
+    }
+}
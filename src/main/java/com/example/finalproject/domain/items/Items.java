@@ -7,6 +7,8 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,7 +17,9 @@ import java.util.List;
 
 @NoArgsConstructor
 @Entity
-@Table(name = "items_tb")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
+@Table(name = "items_tb", indexes = @Index(name = "idx_items_category", columnList = "category_id, status"))
 @Data
 public class Items {
     @Id
@@ -44,7 +48,7 @@ public class Items {
     @Column(nullable = false)
     private Integer stock; // 재고
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @ManyToOne // 여러 아이템이 같은 카테고리 행을 공유 (cascade 없음)
     @JoinColumn(name = "category_id")
     private Category category;
 
@@ -63,7 +63,6 @@ public class ItemsController {
         ItemsResponse.Detail itemsDetail = itemsService.findItemsByAdminIdAndItemId(sessionBrand.getId(), itemId);
         requestDTO.setAttribute("itemsDetail", itemsDetail);
 
-        System.out.println("메인이미지에 무엇이 저장되어 있나요? -> " + itemsDetail.getItemMainImage());
         return "items/items-update-form";
     }
 
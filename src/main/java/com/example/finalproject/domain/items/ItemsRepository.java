@@ -1,5 +1,7 @@
 package com.example.finalproject.domain.items;
 
+import com.example.finalproject._core.utils.CursorPage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,9 +35,9 @@ public interface ItemsRepository extends JpaRepository<Items, Integer> {
     @Query("SELECT i FROM Items i JOIN FETCH i.category c WHERE i.status = true AND i.admin.id = :adminId AND i.name LIKE %:keyword%")
     List<Items> findItemsByAdminIdAndItemName(@Param("adminId") int adminId, @Param("keyword") String keyword);
 
-    //브랜드의 아이템 상위 카테고리 검색 목록
-    @Query("SELECT i FROM Items i JOIN FETCH i.category c WHERE i.status = true AND i.admin.id = :adminId AND c.main LIKE %:keyword%")
-    List<Items> findItemsByAdminIdAndCategory(@Param("adminId") int adminId, @Param("keyword") String keyword);
+    //브랜드의 아이템 카테고리 검색 목록 (카테고리 번호는 CategoryTree 에서)
+    @Query("SELECT i FROM Items i JOIN FETCH i.category c WHERE i.status = true AND i.admin.id = :adminId AND c.id IN :categoryIds")
+    List<Items> findItemsByAdminIdAndCategoryIds(@Param("adminId") int adminId, @Param("categoryIds") List<Integer> categoryIds);
 
     // 브랜드 아이템 상세보기
     @Query("SELECT i FROM Items i JOIN FETCH i.category c WHERE i.admin.id = :adminId AND i.id = :itemId")
@@ -45,20 +47,53 @@ public interface ItemsRepository extends JpaRepository<Items, Integer> {
     @Query("select i from Items i where  i.id in :reqItemsIds")
     List<Items> findItemsByItemId(@Param("reqItemsIds") List<Integer> reqItemsIds);
 
-    @Query("select i from Items i join fetch i.photos p")
-    List<Items> findByAllItems();
-
     @Query("select i from Items i join fetch i.photos p where i.name like %:keyword%")
     List<Items> findItemsByItemName(String keyword);
 
-
-    @Query("select i from Items i join fetch i.photos p where p.isMainPhoto = true order by i.id desc")
-    List<Items> findAllByOrderByDateDescWithPhoto();
-
-    // 카테고리별 모든 아이템 조회
-    @Query("select it from Items it join fetch it.admin a join fetch it.photos p join fetch a.photo ap " +
-            "where p.isMainPhoto = true and it.id in (select i.id from Items i where i.category.main = :category)")
-    List<Items> findTopItemsWithAdminAndPhoto(@Param("category") String category);
+    // 검색 색인용 (아이템 번호, 아이템명, 상위 카테고리, 하위 카테고리)
+    @Query("select i.id, i.name, c.main, c.sub from Items i left join i.category c where i.status = true")
+    List<Object[]> findAllForSearchIndex();
+
+    // 코디 아이템 선택 목록 색인용 (아이템 번호, 아이템명, 메인 사진 경로, 브랜드 번호, 브랜드 사진 번호, 브랜드 사진 경로, 상위 카테고리)
+    @Query("select i.id, i.name, p.path, a.id, ap.id, ap.path, c.main from Items i join i.admin a join a.photo ap " +
+            "join i.category c join i.photos p where p.isMainPhoto = true and i.status = true")
+    List<Object[]> findAllForBrandCatalog();
+
+    // 위와 같은 값, 아이템 하나 (저장/수정 후 색인 갱신)
+    @Query("select i.id, i.name, p.path, a.id, ap.id, ap.path, c.main from Items i join i.admin a join a.photo ap " +
+            "join i.category c join i.photos p where p.isMainPhoto = true and i.status = true and i.id = :itemId")
+    List<Object[]> findForBrandCatalog(@Param("itemId") Integer itemId);
+
+    // 검색 결과 아이템 + 사진 (커서 페이징 2단계에도 사용)
+    @Query("select i from Items i join fetch i.photos p where i.id in :itemIds")
+    List<Items> findItemsWithPhotosByIds(@Param("itemIds") List<Integer> itemIds);
+
+    // 커서 페이징 1단계 : 커서 다음 아이템 번호 (번호순)
+    // 2단계가 사진을 inner join fetch 하므로 사진이 있는 아이템만 (없으면 페이지가 size 보다 짧아져 다음 커서가 끊김)
+    @Query("select i.id from Items i where exists (select p.id from Photo p where p.items = i) " +
+            "and (:cursor is null or i.id > :cursor) order by i.id")
+    List<Integer> findIdsAfter(@Param("cursor") Integer cursor, Pageable pageable);
+
+    // 커서 페이징 1단계 : 메인 사진이 있는 아이템 번호 (최신순)
+    @Query("select i.id from Items i where exists (select p.id from Photo p where p.items = i and p.isMainPhoto = true) " +
+            "and (:cursor is null or i.id < :cursor) order by i.id desc")
+    List<Integer> findIdsWithMainPhotoBefore(@Param("cursor") Integer cursor, Pageable pageable);
+
+    // 커서 페이징 2단계 : 아이템 + 메인 사진
+    @Query("select i from Items i join fetch i.photos p where p.isMainPhoto = true and i.id in :itemIds")
+    List<Items> findItemsWithMainPhotoByIds(@Param("itemIds") List<Integer> itemIds);
+
+    // 커서 다음 아이템 + 사진 (번호순)
+    default List<Items> findPageAfter(Integer cursor, Pageable limit) {
+        List<Integer> ids = findIdsAfter(cursor, limit);
+        return ids.isEmpty() ? List.of() : CursorPage.orderByIds(ids, findItemsWithPhotosByIds(ids), Items::getId);
+    }
+
+    // 커서 이전 아이템 + 메인 사진 (최신순)
+    default List<Items> findMainPhotoPageBefore(Integer cursor, Pageable limit) {
+        List<Integer> ids = findIdsWithMainPhotoBefore(cursor, limit);
+        return ids.isEmpty() ? List.of() : CursorPage.orderByIds(ids, findItemsWithMainPhotoByIds(ids), Items::getId);
+    }
 
 
 }
\ No newline at end of file
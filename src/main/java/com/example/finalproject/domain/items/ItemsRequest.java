@@ -67,7 +67,8 @@ public class ItemsRequest {
         }
 
 
-        public Items toEntity(Admin admin) {
+        // category : CategoryTree.resolve 로 찾은 공유 카테고리
+        public Items toEntity(Admin admin, Category category) {
             Items items = Items.builder()
                     .admin(admin)
                     .name(name)
@@ -77,15 +78,9 @@ public class ItemsRequest {
                     .discountPrice(discountPrice)
                     .stock(stock)
                     .status(true)
+                    .category(category)
                     .build();
 
-            // 카테고리 생성
-            Category category = Category.builder()
-                    .main(mainCategory)
-                    .sub(subCategory)
-                    .build();
-            items.setCategory(category);
-
             return items;
         }
     }
@@ -144,7 +139,7 @@ public class ItemsRequest {
             this.detailImage = detailImage;
         }
 
-        public Items toEntity() {
+        public Items toEntity(Category category) {
             Items items = Items.builder()
                     .id(id)
                     .admin(admin)
@@ -154,17 +149,9 @@ public class ItemsRequest {
                     .price(price)
                     .discountPrice(discountPrice)
                     .stock(stock)
+                    .category(category)
                     .build();
 
-            // 카테고리 생성
-            Category category = Category.builder()
-                    .main(mainCategory)
-                    .sub(subCategory)
-                    .build();
-
-            // 아이템에 카테고리 설정
-            items.setCategory(category);
-
             return items;
         }
     }
@@ -137,7 +137,7 @@ public class ItemsResponse {
                 Photo itemPhoto = itemPhotos.get(0); // 첫 번째 포토만 사용
                 this.itemPhotoId = itemPhoto.getId();
                 this.itemPhotoName = itemPhoto.getUuidName();
-                this.photoPath = itemPhoto.getPath();
+                this.photoPath = itemPhoto.pathForWidth(Photo.THUMB_WIDTH);
             }
         }
     }
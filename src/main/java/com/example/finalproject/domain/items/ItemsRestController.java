@@ -1,7 +1,7 @@
 package com.example.finalproject.domain.items;
 
+import com.example.finalproject._core.metrics.QueryBudget;
 import com.example.finalproject._core.utils.ApiUtil;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,10 +14,10 @@ import java.util.List;
 @RequiredArgsConstructor
 @RestController
 public class ItemsRestController {
-    private final HttpSession session;
     private final ItemsService itemsService;
 
     //아이템 상세 페이지
+    @QueryBudget(5)
     @GetMapping("/app/item-detail-pages/{itemId}")
     public ResponseEntity<?> creatorView(@PathVariable int itemId) {
         ItemsResponse.ItemDetail respDTO = itemsService.itemDetail(itemId);
@@ -25,9 +25,12 @@ public class ItemsRestController {
     }
 
     // 유저 아이템 검색 기능
+    @QueryBudget(16)
     @GetMapping("/app/search-items")
-    public ResponseEntity<?> searchItems(@RequestParam(defaultValue = "") String keyword) {
-        List<ItemsResponse.ItemListDTO> respDTO = itemsService.searchItems(keyword);
+    public ResponseEntity<?> searchItems(@RequestParam(defaultValue = "") String keyword,
+                                         @RequestParam(required = false) Integer cursor,
+                                         @RequestParam(required = false) Integer size) {
+        List<ItemsResponse.ItemListDTO> respDTO = itemsService.searchItems(keyword, cursor, size);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 }
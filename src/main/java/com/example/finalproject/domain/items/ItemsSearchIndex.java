@@ -0,0 +1,69 @@
+package com.example.finalproject.domain.items;
+
+import com.example.finalproject._core.utils.AfterCommit;
+import com.example.finalproject._core.utils.NgramIndex;
+import com.example.finalproject.domain.category.Category;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 아이템 검색용 메모리 역색인 (아이템명 > 상위/하위 카테고리 순으로 가중치)
+// 앱 시작 시 전체를 색인하고, 이후에는 아이템 저장/수정/삭제가 커밋될 때마다 해당 아이템만 갱신한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ItemsSearchIndex {
+    private final ItemsRepository itemsRepository;
+
+    private final NgramIndex index = new NgramIndex(3, 1, 1);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = itemsRepository.findAllForSearchIndex();
+        rows.forEach(row -> index.put((Integer) row[0], (String) row[1], (String) row[2], (String) row[3]));
+        log.info("아이템 검색 색인 완료 : " + index.size() + "건");
+    }
+
+    // 검색어를 포함하는 아이템 목록 (순위순)
+    public List<Items> search(String keyword) {
+        int[] ids = index.search(keyword);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        Map<Integer, Items> itemsById = new HashMap<>();
+        itemsRepository.findItemsWithPhotosByIds(Arrays.stream(ids).boxed().toList())
+                .forEach(items -> itemsById.put(items.getId(), items));
+
+        List<Items> ranked = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Items items = itemsById.get(id);
+            if (items != null) {
+                ranked.add(items);
+            }
+        }
+        return ranked;
+    }
+
+    // 아이템 저장/수정 후 호출 (삭제 상태면 색인에서 제외)
+    public void indexAfterCommit(Items items) {
+        Integer itemId = items.getId();
+        if (!Boolean.TRUE.equals(items.getStatus())) {
+            removeAfterCommit(itemId);
+            return;
+        }
+        Category category = items.getCategory();
+        String name = items.getName();
+        String main = category == null ? null : category.getMain();
+        String sub = category == null ? null : category.getSub();
+        AfterCommit.run(() -> index.put(itemId, name, main, sub));
+    }
+
+    public void removeAfterCommit(Integer itemId) {
+        AfterCommit.run(() -> index.remove(itemId));
+    }
+
+}
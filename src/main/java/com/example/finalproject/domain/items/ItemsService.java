@@ -5,9 +5,11 @@ import com.example.finalproject._core.error.exception.Exception401;
 import com.example.finalproject._core.error.exception.Exception404;
 import com.example.finalproject._core.error.exception.SSRException401;
 import com.example.finalproject._core.error.exception.SSRException404;
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.admin.Admin;
 import com.example.finalproject.domain.admin.AdminRepository;
 import com.example.finalproject.domain.category.Category;
+import com.example.finalproject.domain.category.CategoryTree;
 import com.example.finalproject.domain.photo.Photo;
 import com.example.finalproject.domain.photo.PhotoRepository;
 import com.example.finalproject.domain.photo.PhotoService;
@@ -29,6 +31,9 @@ public class ItemsService {
     private final UserRepository userRepository;
     private final PhotoService photoService;
     private final PhotoRepository photoRepository;
+    private final ItemsSearchIndex itemsSearchIndex;
+    private final CategoryTree categoryTree;
+    private final BrandCatalog brandCatalog;
 
     // 아이템 수정
     @Transactional
@@ -67,19 +72,24 @@ public class ItemsService {
             }
         });
 
-        // 카테고리 정보 업데이트
-        Category category = items.getCategory();
-        category.setMain(reqDTO.getMainCategory());
-        category.setSub(reqDTO.getSubCategory());
+        // 카테고리 변경 (공유 행을 고치지 않고 해당 조합의 행으로 바꿔 끼움)
+        items.setCategory(categoryTree.resolve(reqDTO.getMainCategory(), reqDTO.getSubCategory()));
 
         // 엔티티 저장
         itemsRepository.save(items);
+        itemsSearchIndex.indexAfterCommit(items);
+        brandCatalog.refreshAfterCommit(items.getId());
     }
 
     //아이템 디테일 페이지 요청
     public ItemsResponse.ItemDetail itemDetail(Integer itemId) {
         Items item = itemsRepository.findItemsByAdminAndPhotos(itemId)
                 .orElseThrow(() -> new Exception404("등록된 아이템이 아닙니다."));
+        return toItemDetail(item);
+    }
+
+    // 사진을 메인/상세로 나눠서 상세 화면 DTO 로 변환 (src/jmh 에서 측정)
+    static ItemsResponse.ItemDetail toItemDetail(Items item) {
         List<Photo> mainPhotos = item.getPhotos().stream()
                 .filter(Photo::getIsMainPhoto)  // isMainPhoto가 true인 photo만 필터링
                 .collect(Collectors.toList());
@@ -96,7 +106,10 @@ public class ItemsService {
         // Admin 정보 조회
         Admin admin = adminRepository.findById(sessionBrandId)
                 .orElseThrow(() -> new SSRException401("브랜드 관리자의 정보를 찾을 수 없습니다."));
-        Items savedItems = itemsRepository.save(reqDTO.toEntity(admin));
+        Category category = categoryTree.resolve(reqDTO.getMainCategory(), reqDTO.getSubCategory());
+        Items savedItems = itemsRepository.save(reqDTO.toEntity(admin, category));
+        itemsSearchIndex.indexAfterCommit(savedItems);
+        brandCatalog.refreshAfterCommit(savedItems.getId());
 
         photoService.uploadItemMainImage(reqDTO.getMainImage(), savedItems);
         photoService.uploadItemDetailImage(reqDTO.getDetailImage(), savedItems);
@@ -111,7 +124,10 @@ public class ItemsService {
         List<Items> items = switch (searchBy) {
             case "itemId" -> itemsRepository.findItemsByAdminIdAndItemId(admin.getId(), keyword);
             case "itemName" -> itemsRepository.findItemsByAdminIdAndItemName(admin.getId(), keyword);
-            case "category" -> itemsRepository.findItemsByAdminIdAndCategory(admin.getId(), keyword);
+            case "category" -> {
+                List<Integer> categoryIds = categoryTree.idsOfMainContaining(keyword);
+                yield categoryIds.isEmpty() ? List.of() : itemsRepository.findItemsByAdminIdAndCategoryIds(admin.getId(), categoryIds);
+            }
             case null, default ->  // 기본값은 상품명으로 검색
                     itemsRepository.findItemsByAdminId(admin.getId());
         };
@@ -153,20 +169,25 @@ public class ItemsService {
         // 엔티티 저장
         itemsRepository.save(items);
 
+        itemsSearchIndex.removeAfterCommit(itemId);
+        brandCatalog.removeAfterCommit(itemId);
+
         // 아이템에 연결된 사진 삭제
         photoService.deleteByItemId(itemId);
     }
 
     // 유저 아이템 검색 기능
-    public List<ItemsResponse.ItemListDTO> searchItems(String keyword) {
+    public List<ItemsResponse.ItemListDTO> searchItems(String keyword, Integer cursor, Integer size) {
         List<Items> items;
 
         if (keyword == null || keyword.isEmpty()) {
-            items = itemsRepository.findByAllItems();
+            // 검색어가 없으면 전체 목록을 커서 단위로 (다음 페이지는 마지막 itemId 를 cursor 로)
+            items = itemsRepository.findPageAfter(cursor, CursorPage.limit(size));
             return items.stream().map(ItemsResponse.ItemListDTO::new).collect(Collectors.toList());
         }
 
-        items = itemsRepository.findItemsByItemName(keyword);
+        // LIKE 대신 메모리 색인으로 검색 (순위순)
+        items = itemsSearchIndex.search(keyword);
         return items.stream().map(ItemsResponse.ItemListDTO::new).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,42 @@
+package com.example.finalproject.domain.items;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+// 재고 차감을 JDBC 배치로 처리하는 저장소
+// 조건부 UPDATE(stock >= 수량)라서 동시에 여러 주문이 들어와도 재고가 음수가 되지 않는다
+// JPA 트랜잭션과 같은 커넥션을 사용하므로 호출한 트랜잭션에 함께 커밋/롤백된다
+@RequiredArgsConstructor
+@Repository
+public class StockRepository {
+    private static final String DECREASE_STOCK =
+            "update items_tb set stock = stock - ? where id = ? and stock >= ?";
+    private static final String FIND_STOCK =
+            "select stock from items_tb where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 아이템별 수량만큼 한 번의 배치로 차감, keep 만큼은 남아 있어야 차감된다 (다른 장바구니 홀드 수량)
+    // 반환값은 아이템 순서대로 반영된 행 수 (0이면 재고 부족)
+    // 교착 상태를 피하려고 항상 아이템 번호 순서로 잠그도록 정렬된 맵을 받는다
+    public int[] decreaseAll(SortedMap<Integer, Integer> qtyByItemId, Map<Integer, Integer> keepByItemId) {
+        if (qtyByItemId.isEmpty()) {
+            return new int[0];
+        }
+        List<Object[]> args = new ArrayList<>();
+        qtyByItemId.forEach((itemId, qty) ->
+                args.add(new Object[]{qty, itemId, qty + keepByItemId.getOrDefault(itemId, 0)}));
+        return jdbcTemplate.batchUpdate(DECREASE_STOCK, args);
+    }
+
+    public Integer findStock(Integer itemId) {
+        List<Integer> stock = jdbcTemplate.queryForList(FIND_STOCK, Integer.class, itemId);
+        return stock.isEmpty() ? null : stock.get(0);
+    }
+}
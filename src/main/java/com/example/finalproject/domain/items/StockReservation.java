@@ -0,0 +1,218 @@
+package com.example.finalproject.domain.items;
+
+import com.example.finalproject._core.cache.EntityCache;
+import com.example.finalproject._core.error.exception.Exception400;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 주문 시 재고 차감 + 장바구니 재고 홀드
+// 실제 재고는 items_tb.stock 조건부 UPDATE 로만 줄어들고(초과 판매 방지), 메모리에는 주문이 몰리는 아이템의
+// 최근 재고와 장바구니 홀드(만료 시간 포함)만 들고 있어서 품절 상품 주문은 DB까지 가지 않고 바로 거절한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StockReservation {
+    // 장바구니에 담고 이 시간 동안 주문하지 않으면 홀드 해제
+    private static final Duration HOLD_TTL = Duration.ofMinutes(30);
+    // 메모리 재고는 짧게만 믿고, 지나면 DB 조건부 UPDATE 결과에만 맡긴다
+    private static final Duration STOCK_TTL = Duration.ofSeconds(5);
+
+    private final StockRepository stockRepository;
+    private final EntityCache entityCache;
+
+    // 장바구니/주문이 들어온 아이템만 올라감 (sweep 에서 홀드가 없고 오래된 아이템은 내림)
+    private final ConcurrentHashMap<Integer, HotItem> hotItems = new ConcurrentHashMap<>();
+    // 아이템 번호 기준으로 나눈 락
+    private final Object[] locks = createLocks(64);
+
+    // 장바구니 담기 : 다른 사용자가 홀드한 수량을 뺀 재고 안에서만 담을 수 있다
+    // qty 는 이 사용자의 장바구니에 담긴 전체 수량
+    public void hold(Integer userId, Integer itemId, int qty, Integer stock) {
+        long now = System.currentTimeMillis();
+        synchronized (lockFor(itemId)) {
+            HotItem hotItem = hotItems.computeIfAbsent(itemId, id -> new HotItem());
+            hotItem.purgeExpired(now);
+            if (stock != null) {
+                hotItem.updateStock(stock, now);
+            }
+            Integer knownStock = hotItem.knownStock(now);
+            if (knownStock != null && knownStock - hotItem.heldByOthers(userId) < qty) {
+                throw new Exception400("재고가 부족합니다.");
+            }
+            hotItem.holds.put(userId, new Hold(qty, now + HOLD_TTL.toMillis()));
+        }
+    }
+
+    // 장바구니에서 아이템을 빼면 홀드도 해제
+    public void release(Integer userId, Integer itemId) {
+        synchronized (lockFor(itemId)) {
+            HotItem hotItem = hotItems.get(itemId);
+            if (hotItem != null) {
+                hotItem.holds.remove(userId);
+            }
+        }
+    }
+
+    // 주문 시 재고 차감 (호출한 트랜잭션 안에서 실행, 하나라도 부족하면 Exception400 으로 전체 롤백)
+    // 다른 사용자의 홀드 수량만큼은 남겨 두고 차감한다
+    public void reserve(Integer userId, SortedMap<Integer, Integer> qtyByItemId) {
+        long now = System.currentTimeMillis();
+        Map<Integer, Integer> heldByOthers = new HashMap<>();
+
+        // 1. 메모리 재고로 먼저 확인 (품절이 확실하면 DB 를 거치지 않음)
+        qtyByItemId.forEach((itemId, qty) -> {
+            synchronized (lockFor(itemId)) {
+                HotItem hotItem = hotItems.get(itemId);
+                if (hotItem == null) {
+                    return;
+                }
+                hotItem.purgeExpired(now);
+                int held = hotItem.heldByOthers(userId);
+                Integer knownStock = hotItem.knownStock(now);
+                if (knownStock != null && knownStock - held < qty) {
+                    throw new Exception400("재고가 부족합니다.");
+                }
+                heldByOthers.put(itemId, held);
+            }
+        });
+
+        // 2. 조건부 UPDATE 배치 한 번으로 차감
+        int[] updated = stockRepository.decreaseAll(qtyByItemId, heldByOthers);
+        List<Integer> soldOut = new ArrayList<>();
+        int i = 0;
+        for (Integer itemId : qtyByItemId.keySet()) {
+            if (updated[i++] == 0) {
+                soldOut.add(itemId);
+            }
+        }
+        if (!soldOut.isEmpty()) {
+            soldOut.forEach(this::refreshStock);
+            throw new Exception400("재고가 부족합니다.");
+        }
+
+        // 재고를 JDBC 로 바꿨으므로 2차 캐시의 아이템도 커밋 후 비움
+        entityCache.evictAfterCommit(Items.class, qtyByItemId.keySet());
+
+        // 3. 커밋되면 메모리 재고를 줄이고 이 사용자의 홀드 해제, 롤백되면 메모리 재고를 버림
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        reserved(userId, qtyByItemId);
+                    } else {
+                        qtyByItemId.keySet().forEach(StockReservation.this::invalidate);
+                    }
+                }
+            });
+        } else {
+            reserved(userId, qtyByItemId);
+        }
+    }
+
+    private void reserved(Integer userId, Map<Integer, Integer> qtyByItemId) {
+        qtyByItemId.forEach((itemId, qty) -> {
+            synchronized (lockFor(itemId)) {
+                HotItem hotItem = hotItems.computeIfAbsent(itemId, id -> new HotItem());
+                hotItem.holds.remove(userId);
+                if (hotItem.stock != null) {
+                    hotItem.stock = Math.max(0, hotItem.stock - qty);
+                }
+            }
+        });
+    }
+
+    // 재고 부족으로 실패한 아이템은 현재 재고를 다시 읽어서 이후 주문은 메모리에서 바로 거절
+    private void refreshStock(Integer itemId) {
+        Integer stock = stockRepository.findStock(itemId);
+        synchronized (lockFor(itemId)) {
+            HotItem hotItem = hotItems.computeIfAbsent(itemId, id -> new HotItem());
+            if (stock == null) {
+                hotItem.stock = null;
+            } else {
+                hotItem.updateStock(stock, System.currentTimeMillis());
+            }
+        }
+    }
+
+    // 관리자가 재고를 수정하는 등 메모리 값이 맞지 않을 수 있을 때 호출
+    public void invalidate(Integer itemId) {
+        synchronized (lockFor(itemId)) {
+            HotItem hotItem = hotItems.get(itemId);
+            if (hotItem != null) {
+                hotItem.stock = null;
+            }
+        }
+    }
+
+    // 만료된 장바구니 홀드 정리, 홀드도 없고 재고 정보도 오래된 아이템은 메모리에서 내림
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (Integer itemId : hotItems.keySet()) {
+            synchronized (lockFor(itemId)) {
+                HotItem hotItem = hotItems.get(itemId);
+                if (hotItem == null) {
+                    continue;
+                }
+                hotItem.purgeExpired(now);
+                if (hotItem.holds.isEmpty() && hotItem.knownStock(now) == null) {
+                    hotItems.remove(itemId);
+                }
+            }
+        }
+    }
+
+    private Object lockFor(Integer itemId) {
+        return locks[Math.floorMod(itemId.hashCode(), locks.length)];
+    }
+
+    private static Object[] createLocks(int count) {
+        Object[] locks = new Object[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private record Hold(int qty, long expiresAt) {
+    }
+
+    // 아이템 하나의 메모리 상태, 항상 해당 아이템의 락을 잡고 접근한다
+    private static class HotItem {
+        private final Map<Integer, Hold> holds = new HashMap<>();
+        private Integer stock;
+        private long stockAt;
+
+        private void updateStock(int stock, long now) {
+            this.stock = stock;
+            this.stockAt = now;
+        }
+
+        private Integer knownStock(long now) {
+            return stock != null && now - stockAt <= STOCK_TTL.toMillis() ? stock : null;
+        }
+
+        private int heldByOthers(Integer userId) {
+            int held = 0;
+            for (Map.Entry<Integer, Hold> entry : holds.entrySet()) {
+                if (!entry.getKey().equals(userId)) {
+                    held += entry.getValue().qty();
+                }
+            }
+            return held;
+        }
+
+        private void purgeExpired(long now) {
+            holds.values().removeIf(hold -> hold.expiresAt() < now);
+        }
+    }
+}
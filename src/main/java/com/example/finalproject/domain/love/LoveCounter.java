@@ -0,0 +1,180 @@
+package com.example.finalproject.domain.love;
+
+import com.example.finalproject.domain.codi.CodiRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 코디별 좋아요 갯수를 메모리에 들고 있는 카운터
+// 좋아요/취소 시 커밋 후 증감만 반영하고, codi_tb.love_count 에는 주기적으로 모아서 저장한다
+// love_tb 기준으로 주기적으로 다시 계산해서 어긋난 값을 바로잡는다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LoveCounter {
+    private final LoveRepository loveRepository;
+    private final CodiRepository codiRepository;
+
+    private final ConcurrentHashMap<Integer, AtomicLong> counters = new ConcurrentHashMap<>();
+    // DB에 아직 반영되지 않은 코디 번호
+    private final Set<Integer> dirty = ConcurrentHashMap.newKeySet();
+    // 커밋 후 반영(apply)을 기다리는 트랜잭션 수 (코디별), 이 값이 있는 코디는 reconcile 에서 건너뛴다
+    private final ConcurrentHashMap<Integer, Integer> inFlight = new ConcurrentHashMap<>();
+    // 최초 전체 적재가 끝나기 전에는 카운터에 없는 코디를 0으로 볼 수 없다
+    private volatile boolean loaded = false;
+
+    // 코디의 현재 좋아요 갯수
+    public Long get(Integer codiId) {
+        AtomicLong counter = counters.get(codiId);
+        if (counter != null) {
+            return counter.get();
+        }
+        if (loaded) {
+            // 전체 적재 이후 카운터에 없으면 좋아요가 없는 코디
+            return 0L;
+        }
+        // 적재 전이라면 DB에서 한 번 세어 두고 이후부터는 메모리 값 사용
+        Long count = loveRepository.countTotalLove(codiId);
+        AtomicLong seeded = counters.putIfAbsent(codiId, new AtomicLong(count));
+        return seeded == null ? count : seeded.get();
+    }
+
+    // 좋아요 증감 반영, 트랜잭션 안이라면 커밋된 후에만 반영한다
+    // 반환값은 이 변경이 반영된 후의 좋아요 갯수
+    public Long change(Integer codiId, long delta) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        long current = inTransaction ? committedCount(codiId, delta) : get(codiId);
+        if (delta == 0) {
+            return current;
+        }
+        if (inTransaction) {
+            inFlight.merge(codiId, 1, Integer::sum);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(codiId, delta);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.computeIfPresent(codiId, (id, count) -> count == 1 ? null : count - 1);
+                }
+            });
+            return Math.max(0L, current + delta);
+        }
+        return apply(codiId, delta);
+    }
+
+    // 트랜잭션 안에서 본 커밋 기준 좋아요 갯수
+    // 적재 전이라 DB 에서 셀 때는 자동 flush 로 이번 트랜잭션의 변경(delta)이 이미 포함되어 있으므로,
+    // 그만큼 빼고 시드해야 커밋 후 apply 에서 delta 가 두 번 더해지지 않는다
+    private long committedCount(Integer codiId, long delta) {
+        AtomicLong counter = counters.get(codiId);
+        if (counter != null) {
+            return counter.get();
+        }
+        if (loaded) {
+            return 0L;
+        }
+        long committed = Math.max(0L, loveRepository.countTotalLove(codiId) - delta);
+        AtomicLong seeded = counters.putIfAbsent(codiId, new AtomicLong(committed));
+        return seeded == null ? committed : seeded.get();
+    }
+
+    private long apply(Integer codiId, long delta) {
+        // 여기서 카운터가 없으면 전체 적재 이후 좋아요가 없던 코디 (적재 전이라면 change 에서 이미 시드함)
+        AtomicLong counter = counters.computeIfAbsent(codiId, id -> new AtomicLong());
+        long updated = counter.updateAndGet(value -> Math.max(0L, value + delta));
+        dirty.add(codiId);
+        return updated;
+    }
+
+    // 변경된 카운터만 codi_tb.love_count 에 저장
+    @Scheduled(fixedDelay = 10_000, initialDelay = 10_000)
+    public void flush() {
+        for (Integer codiId : dirty) {
+            dirty.remove(codiId);
+            AtomicLong counter = counters.get(codiId);
+            if (counter == null) {
+                continue;
+            }
+            try {
+                codiRepository.updateLoveCount(codiId, counter.get());
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                dirty.add(codiId);
+                log.warn("좋아요 갯수 저장 실패 codiId=" + codiId + " : " + e.getMessage());
+            }
+        }
+    }
+
+    // 서버 기동 시 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+        loaded = true;
+    }
+
+    // love_tb 기준으로 다시 계산해서 메모리/DB 값의 어긋남을 바로잡는다
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void reconcile() {
+        // 조회 도중 들어온 증감을 덮어쓰지 않도록 조회 전 값을 기억해 두고, 그 사이 값이 바뀐 코디는 이번 주기에서 건너뛴다
+        // 커밋은 되었지만 아직 apply 전인 트랜잭션이 있는 코디도 건너뛴다 (DB 값에는 이미 포함되어 있어 두 번 더해짐)
+        Map<Integer, Long> before = new HashMap<>();
+        counters.forEach((codiId, counter) -> before.put(codiId, counter.get()));
+
+        Map<Integer, Long> actual = new HashMap<>();
+        loveRepository.findCodiIdsSortedByLoveCount()
+                .forEach(codiLoveCount -> actual.put(codiLoveCount.getCodiId(), codiLoveCount.getLoveCount()));
+
+        int repaired = 0;
+        for (Map.Entry<Integer, Long> entry : actual.entrySet()) {
+            if (inFlight.containsKey(entry.getKey())) {
+                continue;
+            }
+            AtomicLong counter = counters.get(entry.getKey());
+            if (counter == null) {
+                counter = counters.putIfAbsent(entry.getKey(), new AtomicLong(entry.getValue()));
+                if (counter == null) {
+                    continue;
+                }
+            }
+            Long seen = before.get(entry.getKey());
+            if (seen != null && seen != entry.getValue().longValue() && counter.compareAndSet(seen, entry.getValue())) {
+                dirty.add(entry.getKey());
+                repaired++;
+            }
+        }
+        // 좋아요가 모두 사라진 코디
+        for (Map.Entry<Integer, Long> entry : before.entrySet()) {
+            if (!actual.containsKey(entry.getKey()) && entry.getValue() != 0L && !inFlight.containsKey(entry.getKey())
+                    && counters.get(entry.getKey()).compareAndSet(entry.getValue(), 0L)) {
+                dirty.add(entry.getKey());
+                repaired++;
+            }
+        }
+
+        // DB 컬럼은 love_tb 기준으로 한 번에 다시 계산
+        codiRepository.recalculateLoveCounts();
+        if (repaired > 0) {
+            log.info("좋아요 카운터 보정 : " + repaired + "건");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
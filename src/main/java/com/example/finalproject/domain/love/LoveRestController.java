@@ -1,9 +1,9 @@
 package com.example.finalproject.domain.love;
 
 
+import com.example.finalproject._core.metrics.QueryBudget;
 import com.example.finalproject._core.utils.ApiUtil;
 import com.example.finalproject.domain.user.SessionUser;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,20 +12,19 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 public class LoveRestController {
     private final LoveService loveService;
-    private final HttpSession session;
 
     // 좋아요 상태변경 및 저장
+    @QueryBudget(12)
     @PostMapping("/app/function/love/{codiId}")
-    public ResponseEntity<?> loveSave(@PathVariable Integer codiId) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> loveSave(@PathVariable Integer codiId, SessionUser sessionUser) {
         LoveResponse.SaveUserLove respDTO = loveService.saveLove(codiId, sessionUser.getId());
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     // 좋아요 삭제
+    @QueryBudget(12)
     @DeleteMapping("/app/function/love/{codiId}")
-    public ResponseEntity<?> loveDelete(@PathVariable Integer codiId) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> loveDelete(@PathVariable Integer codiId, SessionUser sessionUser) {
         LoveResponse.DeleteInfo respDTO = loveService.deleteLove(codiId, sessionUser.getId());
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
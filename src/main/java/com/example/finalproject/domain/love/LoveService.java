@@ -5,7 +5,9 @@ import com.example.finalproject._core.error.exception.Exception404;
 import com.example.finalproject.domain.codi.Codi;
 import com.example.finalproject.domain.codi.CodiRepository;
 import jakarta.transaction.Transactional;
+import com.example.finalproject.domain.photo.HomeFeedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -15,6 +17,8 @@ import java.util.Optional;
 public class LoveService {
     private final LoveRepository loveRepository;
     private final CodiRepository codiRepository;
+    private final LoveCounter loveCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LoveResponse.SaveUserLove saveLove(Integer codiId, Integer userId) {
@@ -22,17 +26,25 @@ public class LoveService {
         Codi codi = codiRepository.findByCodiIdAndUser(codiId).orElseThrow(() ->
                 new Exception404("해당 게시물을 찾을 수 없습니다."));
         Love love;
+        // 새로 좋아요가 되는 경우에만 카운터 증가
+        long delta = 0;
         if (loveStatus.isEmpty()) {
             love = loveRepository.save(Love.builder()
                     .user(codi.getUser())
                     .codi(codi)
                     .isLoved(true).build());
+            delta = 1;
         } else {
             love = loveStatus.get();
+            if (!Boolean.TRUE.equals(love.getIsLoved())) {
+                delta = 1;
+            }
             love.setIsLoved(true);
         }
 
-        Long loveCount = loveRepository.countTotalLove(codiId);
+        Long loveCount = loveCounter.change(codiId, delta);
+        // 커밋 후 메인 홈 화면 순위 갱신
+        eventPublisher.publishEvent(new HomeFeedEvent(HomeFeedEvent.Source.LOVE));
         return new LoveResponse.SaveUserLove(love, loveCount);
     }
 
@@ -43,10 +55,15 @@ public class LoveService {
                 new Exception404("해당 게시물을 찾을 수 없습니다."));
         Optional<Love> loveOP = loveRepository.findByCodiIdAndUserLoveStatus(codi.getId(), userId);
 
+        long delta = 0;
         if (loveOP.isPresent()) {
+            if (Boolean.TRUE.equals(loveOP.get().getIsLoved())) {
+                delta = -1;
+            }
             loveRepository.delete(loveOP.get());
+            eventPublisher.publishEvent(new HomeFeedEvent(HomeFeedEvent.Source.LOVE));
         }
-        Long loveCount = loveRepository.countTotalLove(codiId);
+        Long loveCount = loveCounter.change(codiId, delta);
         return new LoveResponse.DeleteInfo(codiId, userId, loveCount);
     }
 }
@@ -0,0 +1,70 @@
+package com.example.finalproject.domain.mileage;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+// 마일리지 적립 내역 (추가만 하고 수정하지 않음)
+// 주문마다 브랜드/크리에이터별 적립액이 한 줄씩 쌓이고, 백그라운드에서 admin_tb/user_tb 의 mileage 로 합산된다
+@NoArgsConstructor
+@Entity
+@Table(name = "mileage_ledger_tb", indexes = {
+        @Index(name = "idx_mileage_ledger_owner", columnList = "owner_type, owner_id, folded"),
+        @Index(name = "idx_mileage_ledger_batch", columnList = "fold_batch")})
+@Data
+public class MileageLedger {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OwnerType ownerType; // 적립 대상 (브랜드 / 크리에이터)
+
+    @Column(nullable = false)
+    private Integer ownerId; // 브랜드 또는 크리에이터 고유번호
+
+    private Integer orderId; // 적립이 발생한 주문 고유번호
+
+    @Column(nullable = false)
+    private Integer amount; // 적립액
+
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean folded; // mileage 컬럼에 합산되었는지 여부
+
+    @Column(length = 36)
+    private String foldBatch; // 이 줄을 가져가 합산 중인(또는 합산한) 배치 번호
+
+    @CreationTimestamp
+    private Timestamp createdAt;
+
+    @Builder
+    public MileageLedger(Integer id, OwnerType ownerType, Integer ownerId, Integer orderId, Integer amount, Boolean folded, String foldBatch, Timestamp createdAt) {
+        this.id = id;
+        this.ownerType = ownerType;
+        this.ownerId = ownerId;
+        this.orderId = orderId;
+        this.amount = amount;
+        this.folded = folded;
+        this.foldBatch = foldBatch;
+        this.createdAt = createdAt;
+    }
+
+    public enum OwnerType {
+        ADMIN("admin_tb"), USER("user_tb");
+
+        private final String table;
+
+        OwnerType(String table) {
+            this.table = table;
+        }
+
+        public String getTable() {
+            return table;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.finalproject.domain.mileage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 마일리지 원장 저장소
+// 주문 시에는 원장에 추가만 하므로 인기 브랜드 행에 락이 걸리지 않고, 합산은 백그라운드에서 한 번에 처리한다
+@RequiredArgsConstructor
+@Repository
+public class MileageLedgerRepository {
+    private static final String INSERT_LEDGER =
+            "insert into mileage_ledger_tb (owner_type, owner_id, order_id, amount, folded, created_at) values (?, ?, ?, ?, false, current_timestamp)";
+    // 커밋된 미합산 원장만 배치 번호로 먼저 가져감 (IDENTITY 번호는 커밋 순서와 달라서 id 범위로는 가져가지 않음)
+    private static final String CLAIM =
+            "update mileage_ledger_tb set fold_batch = ? where folded = false and fold_batch is null";
+    private static final String FIND_CLAIMED_OWNERS =
+            "select distinct owner_id from mileage_ledger_tb where owner_type = ? and fold_batch = ?";
+    private static final String MARK_FOLDED =
+            "update mileage_ledger_tb set folded = true where fold_batch = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 주문 하나의 적립 내역을 한 번의 배치로 추가
+    public void appendAll(Integer orderId, Map<Integer, Integer> mileageByAdminId, Map<Integer, Integer> mileageByUserId) {
+        List<Object[]> args = new ArrayList<>();
+        mileageByAdminId.forEach((adminId, amount) ->
+                args.add(new Object[]{MileageLedger.OwnerType.ADMIN.name(), adminId, orderId, amount}));
+        mileageByUserId.forEach((userId, amount) ->
+                args.add(new Object[]{MileageLedger.OwnerType.USER.name(), userId, orderId, amount}));
+        if (args.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_LEDGER, args);
+    }
+
+    // 현재 잔액 = 합산된 mileage + 아직 합산되지 않은 원장 합계
+    public Integer findBalance(MileageLedger.OwnerType ownerType, Integer ownerId) {
+        String sql = "select coalesce(t.mileage, 0) + coalesce((select sum(l.amount) from mileage_ledger_tb l " +
+                "where l.owner_type = ? and l.owner_id = t.id and l.folded = false), 0) " +
+                "from " + ownerType.getTable() + " t where t.id = ?";
+        List<Integer> balance = jdbcTemplate.queryForList(sql, Integer.class, ownerType.name(), ownerId);
+        return balance.isEmpty() ? 0 : balance.get(0);
+    }
+
+    // 가져간 줄 수 (0 이면 합산할 것이 없음)
+    public int claim(String batch) {
+        return jdbcTemplate.update(CLAIM, batch);
+    }
+
+    // batch 로 가져간 원장만 대상별로 합산해서 mileage 에 더함 (대상 테이블마다 UPDATE 한 번)
+    // 반환값은 mileage 가 바뀐 대상 번호 (2차 캐시에서 그 행만 비우기 위해)
+    public List<Integer> foldInto(MileageLedger.OwnerType ownerType, String batch) {
+        List<Integer> ownerIds = jdbcTemplate.queryForList(FIND_CLAIMED_OWNERS, Integer.class, ownerType.name(), batch);
+        if (ownerIds.isEmpty()) {
+            return ownerIds;
+        }
+        String claimed = "from mileage_ledger_tb l where l.owner_type = ? and l.owner_id = t.id and l.fold_batch = ?";
+        String sql = "update " + ownerType.getTable() + " t " +
+                "set mileage = coalesce(mileage, 0) + (select sum(l.amount) " + claimed + ") " +
+                "where exists (select 1 " + claimed + ")";
+        jdbcTemplate.update(sql, ownerType.name(), batch, ownerType.name(), batch);
+        return ownerIds;
+    }
+
+    public int markFolded(String batch) {
+        return jdbcTemplate.update(MARK_FOLDED, batch);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.finalproject.domain.mileage;
+
+import com.example.finalproject._core.cache.EntityCache;
+import com.example.finalproject._core.utils.AfterCommit;
+import com.example.finalproject.domain.admin.Admin;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 마일리지 적립/조회
+// 적립은 원장(mileage_ledger_tb)에 추가만 하고, 주기적으로 admin_tb/user_tb 의 mileage 컬럼에 합산한다
+// 조회는 메모리에 들고 있는 잔액을 사용 (합산 전후로 잔액은 변하지 않으므로 적립 시에만 갱신)
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MileageService {
+    private final MileageLedgerRepository mileageLedgerRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityCache entityCache;
+
+    private final ConcurrentHashMap<BalanceKey, Integer> balances = new ConcurrentHashMap<>();
+
+    // 주문 하나의 적립 내역 저장 (호출한 트랜잭션에 포함), 커밋 후 메모리 잔액에 반영
+    public void credit(Integer orderId, Map<Integer, Integer> mileageByAdminId, Map<Integer, Integer> mileageByUserId) {
+        mileageLedgerRepository.appendAll(orderId, mileageByAdminId, mileageByUserId);
+        AfterCommit.run(() -> applyToBalances(mileageByAdminId, mileageByUserId));
+    }
+
+    // 현재 마일리지 잔액 (처음 조회할 때만 DB 에서 계산)
+    public Integer getBalance(MileageLedger.OwnerType ownerType, Integer ownerId) {
+        return balances.computeIfAbsent(new BalanceKey(ownerType, ownerId),
+                key -> mileageLedgerRepository.findBalance(key.ownerType(), key.ownerId()));
+    }
+
+    // 합산되지 않은 원장을 mileage 컬럼으로 옮김 (잔액 자체는 그대로라 메모리 값은 건드리지 않음)
+    @Scheduled(fixedDelay = 10_000, initialDelay = 10_000)
+    public void fold() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                // 가져간 줄만 합산/완료 처리하므로 그 사이에 늦게 커밋된 원장은 다음 합산으로 넘어감
+                String batch = UUID.randomUUID().toString();
+                if (mileageLedgerRepository.claim(batch) == 0) {
+                    return;
+                }
+                List<Integer> adminIds = mileageLedgerRepository.foldInto(MileageLedger.OwnerType.ADMIN, batch);
+                mileageLedgerRepository.foldInto(MileageLedger.OwnerType.USER, batch);
+                mileageLedgerRepository.markFolded(batch);
+                // admin_tb 를 JDBC 로 바꿨으므로 2차 캐시에서 합산된 브랜드만 커밋 후 비움
+                entityCache.evictAfterCommit(Admin.class, adminIds);
+            });
+        } catch (RuntimeException e) {
+            log.warn("마일리지 합산 실패 : " + e.getMessage());
+        }
+    }
+
+    // 조회와 적립이 엇갈려 생길 수 있는 오차를 없애기 위해 주기적으로 메모리 잔액을 비움
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void evict() {
+        balances.clear();
+    }
+
+    private void applyToBalances(Map<Integer, Integer> mileageByAdminId, Map<Integer, Integer> mileageByUserId) {
+        // 메모리에 없는 대상은 다음 조회 때 DB 에서 계산하므로 건너뜀
+        mileageByAdminId.forEach((adminId, amount) ->
+                balances.computeIfPresent(new BalanceKey(MileageLedger.OwnerType.ADMIN, adminId), (key, balance) -> balance + amount));
+        mileageByUserId.forEach((userId, amount) ->
+                balances.computeIfPresent(new BalanceKey(MileageLedger.OwnerType.USER, userId), (key, balance) -> balance + amount));
+    }
+
+    private record BalanceKey(MileageLedger.OwnerType ownerType, Integer ownerId) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.finalproject.domain.order;
+
+import com.example.finalproject.domain.orderHistory.OrderHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+// 주문 저장 시 행 단위 save 대신 JDBC 배치로 한 번에 쓰는 저장소
+// (IDENTITY 전략이라 Hibernate 배치 insert가 불가능해서 JDBC로 직접 처리)
+// JPA 트랜잭션과 같은 커넥션을 사용하므로 호출한 트랜잭션에 함께 커밋/롤백된다
+@RequiredArgsConstructor
+@Repository
+public class CheckoutBatchRepository {
+    private static final String INSERT_ORDER_HISTORY =
+            "insert into order_history_tb (admin_id, order_id, items_id, order_item_qty, order_item_price, fee) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 주문 상세를 한 번의 배치로 저장하고 생성된 id를 엔티티에 채워 넣음
+    public void insertOrderHistories(List<OrderHistory> orderHistories) {
+        if (orderHistories.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_ORDER_HISTORY, Statement.RETURN_GENERATED_KEYS)) {
+                for (OrderHistory orderHistory : orderHistories) {
+                    ps.setInt(1, orderHistory.getAdmin().getId());
+                    ps.setInt(2, orderHistory.getOrder().getId());
+                    ps.setInt(3, orderHistory.getItems().getId());
+                    ps.setInt(4, orderHistory.getOrderItemQty());
+                    ps.setInt(5, orderHistory.getOrderItemPrice());
+                    ps.setDouble(6, orderHistory.getFee());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int i = 0;
+                    while (keys.next() && i < orderHistories.size()) {
+                        orderHistories.get(i++).setId(keys.getInt(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
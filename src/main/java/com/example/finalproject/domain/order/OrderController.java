@@ -1,12 +1,10 @@
 package com.example.finalproject.domain.order;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 
 @RequiredArgsConstructor
 @Controller
 public class OrderController {
-    private final HttpSession session;
     private final OrderService orderService;
 }
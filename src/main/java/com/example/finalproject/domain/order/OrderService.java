@@ -1,26 +1,35 @@
 package com.example.finalproject.domain.order;
 
+import com.example.finalproject._core.concurrent.PageComposer;
 import com.example.finalproject._core.error.exception.Exception401;
 import com.example.finalproject._core.error.exception.Exception404;
 import com.example.finalproject.domain.admin.Admin;
 import com.example.finalproject.domain.cart.Cart;
 import com.example.finalproject.domain.cart.CartRepository;
-import com.example.finalproject.domain.codi.CodiRepository;
 import com.example.finalproject.domain.delivery.Delivery;
 import com.example.finalproject.domain.delivery.DeliveryRepository;
 import com.example.finalproject.domain.items.ItemsRepository;
+import com.example.finalproject.domain.items.StockReservation;
+import com.example.finalproject.domain.mileage.MileageService;
 import com.example.finalproject.domain.orderHistory.OrderHistory;
 import com.example.finalproject.domain.orderHistory.OrderHistoryRepository;
+import com.example.finalproject.domain.photo.HomeFeedEvent;
+import com.example.finalproject.domain.sales.SalesRollupService;
 import com.example.finalproject.domain.user.User;
 import com.example.finalproject.domain.user.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 @RequiredArgsConstructor
 @Service
@@ -31,25 +40,31 @@ public class OrderService {
     private final OrderHistoryRepository orderHistoryRepository;
     private final DeliveryRepository deliveryRepository;
     private final ItemsRepository itemsRepository;
-    private final CodiRepository codiRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CheckoutBatchRepository checkoutBatchRepository;
+    private final StockReservation stockReservation;
+    private final MileageService mileageService;
+    private final SalesRollupService salesRollupService;
+    private final PageComposer pageComposer;
 
 
     // 주문 + 배송지 + 결제 설정 페이지
     public OrderResponse.PageView orderPage(Integer userId, OrderRequest.OrderPage reqDTO) {
-        Cart cart = Cart.builder()
-                .items(itemsRepository.findById(reqDTO.getItemId()).orElseThrow(() -> new Exception404("해당 아이템을 찾을 수 없습니다.")))
-                .user(userRepository.findById(userId).orElseThrow(() -> new Exception404("사용자 정보를 찾을 수 없습니다.")))
-                .build();
-        if (reqDTO.getCodiId() != null) {
-            cart.setCodi(codiRepository.findById(reqDTO.getCodiId()).orElse(null));
-        }
+        // 서로 독립적인 조회는 동시에 실행
+        PageComposer.Page page = pageComposer.open();
+        // 주문할 아이템과 사용자 확인
+        page.fork("items", () -> itemsRepository.findById(reqDTO.getItemId())
+                .orElseThrow(() -> new Exception404("해당 아이템을 찾을 수 없습니다.")));
+        page.fork("user", () -> userRepository.findById(userId)
+                .orElseThrow(() -> new Exception404("사용자 정보를 찾을 수 없습니다.")));
 
         // 배송지+결제+사용자 정보 가져오기
-        List<Order> order = orderRepository.findByUserId(userId);
+        PageComposer.Part<List<Order>> order = page.fork("orders", () -> orderRepository.findByUserId(userId));
         // 장바구니 내역 불러오기
-        List<Cart> cartList = cartRepository.findAllByUserIdAndMainPhoto(userId);
+        PageComposer.Part<List<Cart>> cartList = page.fork("carts", () -> cartRepository.findAllByUserIdAndMainPhoto(userId));
+        page.join();
 
-        return new OrderResponse.PageView(order, cartList);
+        return new OrderResponse.PageView(order.get(), cartList.get());
     }
 
     // 주문 + 배송지 + 결제 정보 저장
@@ -59,7 +74,12 @@ public class OrderService {
         User user = userRepository.findById(userId).orElseThrow(() ->
                 new Exception401("사용자 정보를 찾을 수 없습니다."));
         // 사용자 아이디로 모든 카트 찾기
-        List<Cart> carts = cartRepository.findAllByUserIdWithAdmin(userId);
+        List<Cart> carts = cartRepository.findAllForCheckout(userId);
+
+        // 재고 차감 (아이템별 수량 합산, 부족하면 아무것도 저장하지 않고 실패)
+        SortedMap<Integer, Integer> qtyByItemId = new TreeMap<>();
+        carts.forEach(cart -> qtyByItemId.merge(cart.getItems().getId(), cart.getQuantity(), Integer::sum));
+        stockReservation.reserve(userId, qtyByItemId);
 
         // 배송지 정보 저장
         Delivery delivery = deliveryRepository.save(Delivery.builder()
@@ -86,55 +106,43 @@ public class OrderService {
                 .orderDate(Timestamp.from(Instant.now())).build());
 
         List<OrderHistory> orderHistories = new ArrayList<>();
+        // 마일리지는 브랜드/크리에이터별로 합산해서 원장에 한 번에 적립
+        Map<Integer, Integer> adminMileage = new HashMap<>();
+        Map<Integer, Integer> creatorMileage = new HashMap<>();
 
-        // 카트를 OrderHistory테이블로 옮기기
+        // 카트를 OrderHistory로 옮기기
         carts.forEach(cart -> {
-            // 카트에 있는 아이템의 아이디 값과 코디에 등록된 아이템의 아이디 값을 비교하여 처리
-
-            User creator;
-            Admin admin;
+            Admin admin = cart.getItems().getAdmin();
 
             if (cart.getCodi() != null) {
-                // 연동된 코디가 있을경우
-                creator = cart.getCodi().getUser();
-                admin = cart.getItems().getAdmin();
-
-                int creatorMileage = (int) (cart.getTotalAmount() * 0.05);
-                int brandMileage = (int) (cart.getTotalAmount() * 0.05);
-
-                if (creator.getMileage() == null) {
-                    creator.setMileage(0);
-                }
-                creator.setMileage(creator.getMileage() + creatorMileage);
-
-                if (admin.getMileage() == null) {
-                    admin.setMileage(0);
-                }
-                admin.setMileage(admin.getMileage() + brandMileage);
+                // 연동된 코디가 있을경우 : 크리에이터 5% + 브랜드 5%
+                User creator = cart.getCodi().getUser();
+                creatorMileage.merge(creator.getId(), (int) (cart.getTotalAmount() * 0.05), Integer::sum);
+                adminMileage.merge(admin.getId(), (int) (cart.getTotalAmount() * 0.05), Integer::sum);
             } else {
-                // 코디 아이템이 아닌 경우
-                admin = cart.getItems().getAdmin();
-
-                int brandMileage = (int) (cart.getTotalAmount() * 0.1);
-
-                if (admin.getMileage() == null) {
-                    admin.setMileage(0);
-                }
-                admin.setMileage(admin.getMileage() + brandMileage);
+                // 코디 아이템이 아닌 경우 : 브랜드 10%
+                adminMileage.merge(admin.getId(), (int) (cart.getTotalAmount() * 0.1), Integer::sum);
             }
 
-            // OrderHistory 테이블에 저장
-            orderHistories.add(orderHistoryRepository.save(OrderHistory.builder()
-                    .admin(cart.getItems().getAdmin())
+            orderHistories.add(OrderHistory.builder()
+                    .admin(admin)
                     .order(order)
                     .items(cart.getItems())
                     .orderItemPrice(cart.getTotalAmount())
                     .orderItemQty(cart.getQuantity())
-                    .fee(order.getFee()).build()));
+                    .fee(order.getFee()).build());
         });
 
+        // 주문 상세 + 마일리지 원장 + 일자별 매출 집계는 각각 배치 한 번, 카트는 delete 한 번 (카트 줄 수와 관계없이 쿼리 수 고정)
+        checkoutBatchRepository.insertOrderHistories(orderHistories);
+        mileageService.credit(order.getId(), adminMileage, creatorMileage);
+        salesRollupService.record(order, orderHistories);
+
         // 카트 비우기
-        cartRepository.deleteAll(carts);
+        cartRepository.deleteAllByUserId(userId);
+
+        // 판매량 순위가 바뀌므로 커밋 후 메인 홈 화면 갱신
+        eventPublisher.publishEvent(new HomeFeedEvent(HomeFeedEvent.Source.ORDER));
 
         return new OrderResponse.SaveOrder(order, delivery, carts, orderHistories);
     }
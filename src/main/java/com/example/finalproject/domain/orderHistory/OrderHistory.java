@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
 
 @NoArgsConstructor
 @Entity
-@Table(name = "order_history_tb")
+@Table(name = "order_history_tb", indexes = @Index(name = "idx_order_history_admin", columnList = "admin_id, id"))
 @Data
 public class OrderHistory {
     @Id
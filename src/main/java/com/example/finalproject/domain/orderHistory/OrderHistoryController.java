@@ -1,5 +1,6 @@
 package com.example.finalproject.domain.orderHistory;
 
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.admin.Admin;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -19,10 +20,14 @@ public class OrderHistoryController {
 
     // 주문 목록 페이지
     @GetMapping("/api/order-manage")
-    public String orderManage(String searchBy, @RequestParam(defaultValue = "") String keyword, HttpServletRequest request) {
+    public String orderManage(String searchBy, @RequestParam(defaultValue = "") String keyword,
+                              @RequestParam(required = false) Integer cursor, HttpServletRequest request) {
         Admin sessionBrand = (Admin) session.getAttribute("sessionBrand");
-        List<OrderHistoryResponse.orderList> orderHistoryList = orderHistoryService.findByOrderHistoryItemsAdmin(sessionBrand.getId(), searchBy, keyword);
+        List<OrderHistoryResponse.orderList> orderHistoryList = orderHistoryService.findByOrderHistoryItemsAdmin(sessionBrand.getId(), searchBy, keyword, cursor);
         request.setAttribute("orderHistoryList", orderHistoryList);
+        // 다음 페이지 링크 (검색 조건 유지)
+        Integer nextCursor = CursorPage.nextCursor(orderHistoryList, CursorPage.limit(null), OrderHistoryResponse.orderList::getOrderId);
+        request.setAttribute("nextUrl", CursorPage.nextUrl("/api/order-manage", nextCursor, searchBy, keyword));
         return "order/order-manage";
     }
 
@@ -1,10 +1,9 @@
 package com.example.finalproject.domain.orderHistory;
 
 import com.example.finalproject._core.utils.Formatter;
-import com.example.finalproject.domain.delivery.Delivery;
-import com.example.finalproject.domain.user.User;
 import lombok.Data;
 
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.Objects;
@@ -24,23 +23,26 @@ public class OrderHistoryResponse {
         private String totalPrice;
         private String orderDate;
 
-        public orderList(OrderHistory orderHistory) {
-            this.orderId = orderHistory.getId();
-            this.userName = orderHistory.getOrder().getUser().getMyName();
-            this.userPhone = orderHistory.getOrder().getUser().getMobile();
-            this.itemId = orderHistory.getItems().getId();
-            this.itemName = orderHistory.getItems().getName();
-            this.price = Formatter.number(orderHistory.getItems().getPrice());
-            this.count = orderHistory.getOrderItemQty();
-            this.totalPrice = Formatter.number(orderHistory.getOrderItemPrice());
+        // 검색 쿼리에서 DTO 로 바로 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+        public orderList(Integer orderHistoryId, String userName, String userPhone, Integer itemId, String itemName,
+                         Integer price, Integer count, Integer totalPrice, Timestamp orderDate) {
+            this.orderId = orderHistoryId;
+            this.userName = userName;
+            this.userPhone = userPhone;
+            this.itemId = itemId;
+            this.itemName = itemName;
+            this.price = Formatter.number(price);
+            this.count = count;
+            this.totalPrice = Formatter.number(totalPrice);
             SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            this.orderDate = dateFormat.format(orderHistory.getOrder().getOrderDate());
+            this.orderDate = dateFormat.format(orderDate);
         }
     }
 
     // 배송 목록 DTO (관리자)
     @Data
     public static class DeliveryList {
+        private Integer orderHistoryId; // 주문 상세 번호
         private Integer orderId; // 주문 코드
         private String itemName; // 아이템 명
         private String userName; // 주문자
@@ -50,19 +52,22 @@ public class OrderHistoryResponse {
         private String orderDate; // 주문일자
         private String endDate; // 배송도착일자
 
-        public DeliveryList(OrderHistory orderHistory, User user, Delivery delivery) {
-            this.orderId = orderHistory.getOrder().getId();
-            this.itemName = orderHistory.getItems().getName();
-            this.userName = user.getMyName();
-            this.recipient = delivery.getRecipient();
-            this.recipientPhoneNumber = delivery.getPhoneNumber();
-            this.status = delivery.getStatus();
+        // 검색 쿼리에서 DTO 로 바로 조회 (orderHistoryId 는 다음 페이지 커서)
+        public DeliveryList(Integer orderHistoryId, Integer orderId, String itemName, String userName, String recipient,
+                            String recipientPhoneNumber, String status, Timestamp startDate, Timestamp endDate) {
+            this.orderHistoryId = orderHistoryId;
+            this.orderId = orderId;
+            this.itemName = itemName;
+            this.userName = userName;
+            this.recipient = recipient;
+            this.recipientPhoneNumber = recipientPhoneNumber;
+            this.status = status;
             SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            this.orderDate = dateFormat.format(delivery.getStartDate());
+            this.orderDate = dateFormat.format(startDate);
             if (Objects.equals(status, "배송중")) {
                 this.endDate = "";
             } else {
-                this.endDate = dateFormat.format(delivery.getEndDate());
+                this.endDate = dateFormat.format(endDate);
             }
         }
     }
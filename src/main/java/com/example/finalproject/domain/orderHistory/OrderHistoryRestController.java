@@ -1,8 +1,8 @@
 package com.example.finalproject.domain.orderHistory;
 
+import com.example.finalproject._core.metrics.QueryBudget;
 import com.example.finalproject._core.utils.ApiUtil;
 import com.example.finalproject.domain.user.SessionUser;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,12 +12,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class OrderHistoryRestController {
     private final OrderHistoryService orderHistoryService;
-    private final HttpSession session;
 
     // 주문 목록 페이지
+    @QueryBudget(12)
     @GetMapping("/app/order-histories")
-    public ResponseEntity<?> OrderHistories() {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> OrderHistories(SessionUser sessionUser) {
         OrderHistoryResponse.UserOrderHistory orderHistoryList = orderHistoryService.getOrderHistoryByUserId(sessionUser.getId());
         return ResponseEntity.ok(new ApiUtil<>(orderHistoryList));
     }
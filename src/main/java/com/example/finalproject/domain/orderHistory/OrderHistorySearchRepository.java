@@ -0,0 +1,51 @@
+package com.example.finalproject.domain.orderHistory;
+
+import com.example.finalproject._core.utils.SearchQuery;
+import com.example.finalproject._core.utils.SearchQuery.Match;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 브랜드 주문/배송 관리 검색
+// order_history_tb (admin_id, id) 인덱스로 브랜드의 최신 주문부터 커서 다음 size 개만 읽는다
+@Repository
+public class OrderHistorySearchRepository {
+    // 주문 목록 : 고객명, 연락처, 아이템코드, 아이템명
+    private static final SearchQuery<OrderHistoryResponse.orderList> ORDER_LIST = new SearchQuery<>(
+            OrderHistoryResponse.orderList.class,
+            "select new com.example.finalproject.domain.orderHistory.OrderHistoryResponse$orderList(" +
+                    "oh.id, u.myName, u.mobile, i.id, i.name, i.price, oh.orderItemQty, oh.orderItemPrice, o.orderDate)",
+            "from OrderHistory oh join oh.order o join o.user u join oh.items i where oh.admin.id = :ownerId",
+            "oh.id")
+            .filter("username", "u.myName", Match.CONTAINS)
+            .filter("mobile", "u.mobile", Match.PREFIX)
+            .filter("itemId", "i.id", Match.EXACT_ID)
+            .filter("itemName", "i.name", Match.CONTAINS);
+
+    // 배송 목록 : 주문코드, 구매자, 수령인, 수령인 연락처, 배송현황
+    private static final SearchQuery<OrderHistoryResponse.DeliveryList> DELIVERY_LIST = new SearchQuery<>(
+            OrderHistoryResponse.DeliveryList.class,
+            "select new com.example.finalproject.domain.orderHistory.OrderHistoryResponse$DeliveryList(" +
+                    "oh.id, o.id, i.name, u.myName, d.recipient, d.phoneNumber, d.status, d.startDate, d.endDate)",
+            "from OrderHistory oh join oh.order o join o.delivery d join o.user u join oh.items i where oh.admin.id = :ownerId",
+            "oh.id")
+            .filter("orderId", "o.id", Match.EXACT_ID)
+            .filter("username", "u.myName", Match.CONTAINS)
+            .filter("recipient", "d.recipient", Match.CONTAINS)
+            .filter("recipientPhoneNumber", "d.phoneNumber", Match.PREFIX)
+            .filter("status", "d.status", Match.CONTAINS);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public List<OrderHistoryResponse.orderList> findOrderList(Integer adminId, String searchBy, String keyword, Integer cursor, Pageable limit) {
+        return ORDER_LIST.find(em, adminId, searchBy, keyword, cursor, limit);
+    }
+
+    public List<OrderHistoryResponse.DeliveryList> findDeliveryList(Integer adminId, String searchBy, String keyword, Integer cursor, Pageable limit) {
+        return DELIVERY_LIST.find(em, adminId, searchBy, keyword, cursor, limit);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.finalproject.domain.orderHistory;
 
+import com.example.finalproject._core.utils.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,20 +12,11 @@ import java.util.stream.Collectors;
 public class OrderHistoryService {
 
     private final OrderHistoryRepository orderHistoryRepository;
+    private final OrderHistorySearchRepository orderHistorySearchRepository;
 
-    // 브랜드 별 사용자가 구매한 아이템 주문 목록 (관리자)
-    public List<OrderHistoryResponse.orderList> findByOrderHistoryItemsAdmin(Integer adminId, String searchBy, String keyword) {
-        orderHistoryRepository.findByOrderHistoryItemsAdmin(adminId);
-
-        List<OrderHistory> orderHistoryList = switch (searchBy) {
-            case "username" -> orderHistoryRepository.findByOrderHistoryItemsAdminAndUsername(adminId, keyword);
-            case "mobile" -> orderHistoryRepository.findByOrderHistoryItemsAdminAndMobile(adminId, keyword);
-            case "itemId" -> orderHistoryRepository.findByOrderHistoryItemsAdminAndItemId(adminId, keyword);
-            case "itemName" -> orderHistoryRepository.findByOrderHistoryItemsAdminAndItemName(adminId, keyword);
-            case null, default -> orderHistoryRepository.findByOrderHistoryItemsAdmin(adminId);
-        };
-
-        return orderHistoryList.stream().map(OrderHistoryResponse.orderList::new).toList();
+    // 브랜드 별 사용자가 구매한 아이템 주문 목록 (관리자) - 최신순 커서 페이징
+    public List<OrderHistoryResponse.orderList> findByOrderHistoryItemsAdmin(Integer adminId, String searchBy, String keyword, Integer cursor) {
+        return orderHistorySearchRepository.findOrderList(adminId, searchBy, keyword, cursor, CursorPage.limit(null));
     }
 
     // 사용자 주문 목록 (사용자)
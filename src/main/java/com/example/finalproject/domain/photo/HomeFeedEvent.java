@@ -0,0 +1,9 @@
+package com.example.finalproject.domain.photo;
+
+// 메인 홈 화면 순위에 영향을 주는 쓰기 작업(좋아요, 주문)이 일어났을 때 발행하는 이벤트
+public record HomeFeedEvent(Source source) {
+
+    public enum Source {
+        LOVE, ORDER
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.finalproject.domain.photo;
+
+import com.example.finalproject.domain.love.LoveRepository;
+import com.example.finalproject.domain.love.LoveResponse;
+import com.example.finalproject.domain.orderHistory.OrderHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 메인 홈 화면(인기 크리에이터/아이템/코디) 목록을 미리 계산해 메모리에 들고 있는 스냅샷
+// 요청 시에는 DB 조회 없이 현재 스냅샷만 반환하고, 갱신은 스케줄러 + 좋아요/주문 이벤트로 처리
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HomeFeedSnapshot {
+    private final PhotoRepository photoRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final LoveRepository loveRepository;
+
+    private final AtomicReference<PhotoResponse.Home> current = new AtomicReference<>();
+    // 이벤트가 몰려도 갱신은 한 번만 예약되도록 막는 플래그
+    private final AtomicBoolean refreshQueued = new AtomicBoolean(false);
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "home-feed-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 현재 스냅샷 조회, 아직 만들어지지 않았다면 이 자리에서 한 번 만든다
+    public PhotoResponse.Home get() {
+        PhotoResponse.Home home = current.get();
+        if (home == null) {
+            home = refresh();
+        }
+        return home;
+    }
+
+    // 서버 기동 직후 미리 만들어 두기
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    // 이벤트를 놓치더라도 주기적으로 다시 계산
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    // 좋아요/주문 트랜잭션이 커밋된 후에만 갱신 예약
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHomeFeedEvent(HomeFeedEvent event) {
+        if (refreshQueued.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                refreshQueued.set(false);
+                refresh();
+            });
+        }
+    }
+
+    // 순위 + 사진 조회 후 새로운 스냅샷으로 교체 (실패하면 기존 스냅샷 유지)
+    public synchronized PhotoResponse.Home refresh() {
+        try {
+            // 코디의 좋아요의 합으로 인기크리에이터를 좋아요받은 순으로 나열 + 대표 사진까지 찾기
+            List<Integer> popularCreators = loveRepository.findUserIdsSortedByLoveCount().stream()
+                    .map(LoveResponse.UserLoveCount::getUserId).toList();
+            List<Photo> popularUserPhotos = photoRepository.findByUserId(popularCreators);
+
+            // 인기 아이템의 id 조회 (총 판매량 순으로 아이템을 나열) + 사진 가져오기
+            List<Integer> itemsId = orderHistoryRepository.findItemsIdByTotalSales();
+            List<Photo> popularItemsPhotos = photoRepository.findByItemsIds(itemsId);
+
+            List<Integer> popularCodiIds = loveRepository.findCodiIdsSortedByLoveCount().stream()
+                    .map(LoveResponse.CodiLoveCount::getCodiId).toList();
+            List<Photo> popularCodiPhotos = photoRepository.findByCodiIds(popularCodiIds);
+
+            PhotoResponse.Home home = new PhotoResponse.Home(popularUserPhotos, popularItemsPhotos, popularCodiPhotos);
+            current.set(home);
+            return home;
+        } catch (RuntimeException e) {
+            log.error("홈 화면 스냅샷 갱신 실패 : " + e.getMessage());
+            PhotoResponse.Home previous = current.get();
+            if (previous == null) {
+                throw e;
+            }
+            return previous;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -9,21 +9,23 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import org.apache.tomcat.util.codec.binary.Base64;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.sql.Timestamp;
 
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "photo")
 @Table(name = "photo_tb")
 @Data
 public class Photo {
+    public static final int THUMB_WIDTH = 320;
+    public static final int MEDIUM_WIDTH = 720;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -36,6 +38,10 @@ public class Photo {
     @Column(nullable = false)
     private String path; // 경로
 
+    // 목록 화면용 축소본 경로 (업로드 후 백그라운드에서 생성, 없으면 원본 사용)
+    private String thumbPath; // 가로 THUMB_WIDTH
+    private String mediumPath; // 가로 MEDIUM_WIDTH
+
     // 아이템이나 코디에서 사진이 여러장일때 대표사진 여부 체크
     // 아이템사진 구성 = 대표사진 + 디테일 사진 (이 경우 mainPhoto = false)
     // 코디 사진 구성 = 대표사진 + 다른 코디 사진들 (이 경우 mainPhoto = false)
@@ -90,23 +96,18 @@ public class Photo {
         this.updateAt = updateAt;
     }
 
-    public enum Sort {
-        USER, ITEM, CODI, BRAND
+    // 화면에 필요한 가로 크기를 만족하는 가장 작은 사진 경로 (축소본이 없으면 원본)
+    public String pathForWidth(int width) {
+        if (thumbPath != null && width <= THUMB_WIDTH) {
+            return thumbPath;
+        }
+        if (mediumPath != null && width <= MEDIUM_WIDTH) {
+            return mediumPath;
+        }
+        return path;
     }
 
-
-
-
-    // 경로에 있는 사진을 읽어서 base64로 전환
-    public String toBase64(Photo photo){
-        String currentDir = System.getProperty("user.dir");
-        String relativePath = photo.getPath();
-        String fullPath = currentDir + File.separator + relativePath;
-        try {
-            byte[] imageData = Files.readAllBytes(Paths.get(fullPath));
-            return Base64.encodeBase64String(imageData);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public enum Sort {
+        USER, ITEM, CODI, BRAND
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.example.finalproject.domain.photo;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+// 내용(SHA-256) 기준으로 한 번만 저장되는 사진 파일
+// 같은 사진을 여러 번 올려도 파일은 하나이고, 참조하는 Photo 수만큼 refCount가 올라간다
+@NoArgsConstructor
+@Entity
+@Table(name = "photo_blob_tb")
+@Data
+public class PhotoBlob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String digest; // 파일 내용의 SHA-256 (hex)
+
+    @Column(nullable = false)
+    private String path; // DB용 경로 (/upload/blob/..)
+
+    private Long size; // 파일 크기 (byte)
+
+    @Column(nullable = false)
+    private Integer refCount; // 이 파일을 참조하는 사진 수
+
+    @CreationTimestamp
+    private Timestamp createdAt;
+
+    @Builder
+    public PhotoBlob(Integer id, String digest, String path, Long size, Integer refCount, Timestamp createdAt) {
+        this.id = id;
+        this.digest = digest;
+        this.path = path;
+        this.size = size;
+        this.refCount = refCount;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.finalproject.domain.photo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 사진 저장 시 참조 수를 올리는 JDBC 저장소
+// JPA 트랜잭션과 같은 커넥션을 사용하므로 호출한 트랜잭션에 함께 커밋/롤백된다 (트랜잭션 밖이면 문장마다 바로 커밋)
+// 중복 digest 로 INSERT 가 실패해도 JPA 를 거치지 않아서 호출한 트랜잭션이 rollback-only 로 바뀌지 않는다
+@RequiredArgsConstructor
+@Repository
+public class PhotoBlobRefRepository {
+    private static final String INCREASE =
+            "update photo_blob_tb set ref_count = ref_count + 1 where digest = ?";
+    private static final String INSERT =
+            "insert into photo_blob_tb (digest, path, size, ref_count, created_at) values (?, ?, ?, 1, current_timestamp)";
+    private static final String FIND_PATH =
+            "select path from photo_blob_tb where digest = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이미 저장된 내용이면 참조 수를 올린다 (반영된 행 수, 0이면 처음 보는 내용)
+    // 행 잠금은 트랜잭션이 끝날 때까지 유지되어 같은 파일의 삭제(PhotoStorage.releaseNow)와 겹치지 않는다
+    public int increase(String digest) {
+        return jdbcTemplate.update(INCREASE, digest);
+    }
+
+    // 참조 수 1로 새로 등록, 다른 요청이 같은 digest 를 먼저 등록했으면 false
+    public boolean insert(String digest, String path, long size) {
+        try {
+            jdbcTemplate.update(INSERT, digest, path, size);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public String findPath(String digest) {
+        List<String> paths = jdbcTemplate.queryForList(FIND_PATH, String.class, digest);
+        return paths.isEmpty() ? null : paths.get(0);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.finalproject.domain.photo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PhotoBlobRepository extends JpaRepository<PhotoBlob, Integer> {
+
+    @Query("select b from PhotoBlob b where b.digest = :digest")
+    Optional<PhotoBlob> findByDigest(@Param("digest") String digest);
+
+    @Query("select b from PhotoBlob b where b.path = :path")
+    Optional<PhotoBlob> findByPath(@Param("path") String path);
+
+    // 참조 수 감소 (참조 수 증가는 PhotoBlobRefRepository)
+    @Modifying
+    @Query("update PhotoBlob b set b.refCount = b.refCount - 1 where b.path = :path and b.refCount > 0")
+    int decreaseRefCount(@Param("path") String path);
+}
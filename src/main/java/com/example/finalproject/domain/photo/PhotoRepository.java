@@ -1,5 +1,6 @@
 package com.example.finalproject.domain.photo;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -50,4 +51,8 @@ public interface PhotoRepository extends JpaRepository<Photo, Integer> {
 
     @Query("select p from Photo p join fetch p.items i where p.isMainPhoto = true order by i.id desc")
     List<Photo> findAllWithItems();
+
+    // 축소본이 아직 없는 사진 {번호, 경로} (번호순 커서 페이징, 앱 시작 시 보충용)
+    @Query("select p.id, p.path from Photo p where p.thumbPath is null and p.path is not null and (:cursor is null or p.id > :cursor) order by p.id")
+    List<Object[]> findWithoutVariants(@Param("cursor") Integer cursor, Pageable pageable);
 }
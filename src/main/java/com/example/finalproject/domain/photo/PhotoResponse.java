@@ -4,14 +4,46 @@ import com.example.finalproject.domain.codi.Codi;
 import com.example.finalproject.domain.items.Items;
 import lombok.Data;
 
+import java.nio.file.Path;
+import java.sql.Timestamp;
 import java.util.List;
 
 public class PhotoResponse {
 
+    // 사진 스트리밍용 파일 정보 (실제 경로 + 캐시 검증값)
+    @Data
+    public static class PhotoFile {
+        private Path file;
+        private String etag;
+        private long lastModified;
+
+        public PhotoFile(Photo photo, Path file) {
+            this.file = file;
+            // 사진이 수정되면 updateAt이 바뀌므로 ETag도 바뀐다
+            Timestamp version = photo.getUpdateAt() != null ? photo.getUpdateAt() : photo.getCreatedAt();
+            this.lastModified = version != null ? version.getTime() : -1;
+            this.etag = "\"" + photo.getId() + "-" + Long.toHexString(Math.max(this.lastModified, 0)) + "\"";
+        }
+    }
+
+    // 스트리밍 업로드 결과 (코디 등록/프로필 수정 시 uploadId로 사용)
+    @Data
+    public static class StagedUpload {
+        private String uploadId;
+        private Long size;
+
+        public StagedUpload(String uploadId, Long size) {
+            this.uploadId = uploadId;
+            this.size = size;
+        }
+    }
+
     @Data
     public static class GetSearchPage{
         private List<CodiPhoto> codiPhotos;
         private List<ItemPhoto> itemPhotos;
+        private Integer codiNextCursor; // 다음 코디 페이지 커서 (마지막 페이지면 null)
+        private Integer itemNextCursor; // 다음 아이템 페이지 커서 (마지막 페이지면 null)
 
         public GetSearchPage(List<Codi> codiPhotos, List<Items> itemsPhotos) {
             this.codiPhotos = codiPhotos.stream().map(CodiPhoto::new).toList();
@@ -27,7 +59,7 @@ public class PhotoResponse {
                 this.photoId = codi.getPhotos().getFirst().getId();
                 this.codiId = codi.getId();
                 this.photoPath = codi.getPhotos().getFirst()
-                        .getPath();
+                        .pathForWidth(Photo.THUMB_WIDTH);
             }
         }
 
@@ -46,7 +78,7 @@ public class PhotoResponse {
                 this.itemDescription = items.getDescription();
                 this.itemPrice = items.getPrice();
                 this.photoId = items.getPhotos().getFirst().getId();
-                this.photoPath = items.getPhotos().getFirst().getPath();
+                this.photoPath = items.getPhotos().getFirst().pathForWidth(Photo.THUMB_WIDTH);
             }
         }
     }
@@ -76,7 +108,7 @@ public class PhotoResponse {
                 this.photoId = photo.getId();
                 this.creatorId = photo.getUser().getId();
                 this.name = photo.getUuidName();
-                this.photoPath = photo.getPath();
+                this.photoPath = photo.pathForWidth(Photo.THUMB_WIDTH);
                 this.sort = photo.getSort();
             }
         }
@@ -94,7 +126,7 @@ public class PhotoResponse {
                 this.photoId = photo.getId();
                 this.itemsId = photo.getItems().getId();
                 this.name = photo.getItems().getName();
-                this.photoPath = photo.getPath();
+                this.photoPath = photo.pathForWidth(Photo.THUMB_WIDTH);
                 this.sort = photo.getSort();
                 this.adminInfo = new AdminInfo(admin);
             }
@@ -124,7 +156,7 @@ public class PhotoResponse {
                 this.photoId = photo.getId();
                 this.codiId = photo.getCodi().getId();
                 this.name = photo.getUuidName();
-                this.photoPath = photo.getPath();
+                this.photoPath = photo.pathForWidth(Photo.THUMB_WIDTH);
                 this.sort = photo.getSort();
                 this.isMainPhoto = photo.getIsMainPhoto();
             }
@@ -1,28 +1,58 @@
 package com.example.finalproject.domain.photo;
 
+import com.example.finalproject._core.metrics.QueryBudget;
 import com.example.finalproject._core.utils.ApiUtil;
+import com.example.finalproject._core.utils.FileStreamUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 
 @RequiredArgsConstructor
 @RestController
 public class PhotoRestController {
     private final PhotoService  photoService;
+    private final PhotoUploadStaging photoUploadStaging;
 
     // 검색 페이지 기본 정보 요청 : 코디탭 + 아이템 탭
+    @QueryBudget(28)
     @GetMapping("/main-search-page")
-    public ResponseEntity<?> searchPage () {
-        PhotoResponse.GetSearchPage respDTO = photoService.getSearchPage();
+    public ResponseEntity<?> searchPage(@RequestParam(required = false) Integer codiCursor,
+                                        @RequestParam(required = false) Integer itemCursor,
+                                        @RequestParam(required = false) Integer size) {
+        PhotoResponse.GetSearchPage respDTO = photoService.getSearchPage(codiCursor, itemCursor, size);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     // 앱] 메인 화면 요청
+    @QueryBudget(0)
     @GetMapping("/home-lists")
     public ResponseEntity<?> getHomeLists() {
         PhotoResponse.Home respDTO =  photoService.getHomeLists();
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
+
+    // 앱] base64 사진 스트리밍 업로드 : 요청 본문을 읽는 즉시 디코딩해서 임시 저장 후 uploadId 반환
+    @QueryBudget(0)
+    @PostMapping("/app/photos/upload")
+    public ResponseEntity<?> uploadPhoto(HttpServletRequest request) throws IOException {
+        PhotoResponse.StagedUpload respDTO = photoUploadStaging.stage(request.getInputStream());
+        return ResponseEntity.ok(new ApiUtil<>(respDTO));
+    }
+
+    // 사진 파일 스트리밍 (ETag/Last-Modified 캐시 검증 + Range 요청 지원)
+    @QueryBudget(8)
+    @GetMapping("/photos/{photoId}")
+    public void streamPhoto(@PathVariable Integer photoId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        PhotoResponse.PhotoFile photoFile = photoService.findPhotoFile(photoId);
+        FileStreamUtil.stream(photoFile.getFile(), photoFile.getEtag(), photoFile.getLastModified(), request, response);
+    }
 }
@@ -1,14 +1,15 @@
 package com.example.finalproject.domain.photo;
 
+import com.example.finalproject._core.error.exception.Exception404;
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.admin.Admin;
 import com.example.finalproject.domain.codi.Codi;
 import com.example.finalproject.domain.codi.CodiRepository;
+import com.example.finalproject.domain.items.BrandCatalog;
 import com.example.finalproject.domain.items.Items;
 import com.example.finalproject.domain.items.ItemsRepository;
-import com.example.finalproject.domain.love.LoveRepository;
-import com.example.finalproject.domain.love.LoveResponse;
-import com.example.finalproject.domain.orderHistory.OrderHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,19 +30,41 @@ import java.util.UUID;
 @Service
 public class PhotoService {
     private final PhotoRepository photoRepository;
-    private final OrderHistoryRepository orderHistoryRepository;
-    private final LoveRepository loveRepository;
+    private final HomeFeedSnapshot homeFeedSnapshot;
+    private final PhotoVariantService photoVariantService;
+    private final PhotoStorage photoStorage;
     private final CodiRepository codiRepository;
     private final ItemsRepository itemsRepository;
+    private final BrandCatalog brandCatalog;
     private final String uploadPath = "./upload/";
 
 
-    // 검색화면 코디탭 아이템탭 정보 가져오기
-    public PhotoResponse.GetSearchPage getSearchPage() {
-        List<Codi> codiPhotos = codiRepository.findAllByOrderByDateDescWithPhoto();
-        List<Items> itemsPhotos = itemsRepository.findAllByOrderByDateDescWithPhoto();
+    // 검색화면 코디탭 아이템탭 정보 가져오기 (탭마다 커서 페이징, 최신순)
+    public PhotoResponse.GetSearchPage getSearchPage(Integer codiCursor, Integer itemCursor, Integer size) {
+        Pageable limit = CursorPage.limit(size);
+        List<Codi> codiPhotos = codiRepository.findMainPhotoPageBefore(codiCursor, limit);
+        List<Items> itemsPhotos = itemsRepository.findMainPhotoPageBefore(itemCursor, limit);
 
-        return new PhotoResponse.GetSearchPage(codiPhotos, itemsPhotos);
+        PhotoResponse.GetSearchPage respDTO = new PhotoResponse.GetSearchPage(codiPhotos, itemsPhotos);
+        respDTO.setCodiNextCursor(CursorPage.nextCursor(codiPhotos, limit, Codi::getId));
+        respDTO.setItemNextCursor(CursorPage.nextCursor(itemsPhotos, limit, Items::getId));
+        return respDTO;
+    }
+
+    // 사진 번호로 실제 파일 위치 조회 (업로드 폴더 밖의 경로는 허용하지 않음)
+    public PhotoResponse.PhotoFile findPhotoFile(Integer photoId) {
+        Photo photo = photoRepository.findById(photoId)
+                .orElseThrow(() -> new Exception404("사진을 찾을 수 없습니다."));
+
+        Path uploadRoot = Paths.get(uploadPath).toAbsolutePath().normalize();
+        String relativePath = photo.getPath().startsWith("/upload/")
+                ? photo.getPath().substring("/upload/".length())
+                : photo.getPath();
+        Path file = uploadRoot.resolve(relativePath).normalize();
+        if (!file.startsWith(uploadRoot) || !Files.isRegularFile(file)) {
+            throw new Exception404("사진 파일을 찾을 수 없습니다.");
+        }
+        return new PhotoResponse.PhotoFile(photo, file);
     }
 
     // 브랜드 가입 사진 업로드
@@ -50,19 +73,11 @@ public class PhotoService {
         if (brandImage == null || brandImage.isEmpty()) {
             return;
         }
-        String brandPath = "admin/" + admin.getBrandName().toLowerCase();
         // 파일명 중복 방지를 위해 UUID 사용
         String imgFilename = UUID.randomUUID() + "_" + brandImage.getOriginalFilename();
-        // resourceHandler로 해당 폴더 개방 작업을 WebConfig에서 등록하고 여기 와야됨
-        // 파일이름이랑 개방된 폴더를 조합해서 경로 생성
-        Path imgPath = Paths.get(uploadPath, brandPath, imgFilename);
-        //파일 저장 (fileWrite)
-        //파일 저장 로직 매개변수로 경로와 사진의 바이트 정보를 요구한다.
 
-        validationCheckAndSave(brandImage, imgPath);
-
-        //DB저장 전 DB전용으로 경로 수정
-        String dbPath = "/upload/" + brandPath + "/" + imgFilename;
+        // 내용 기반 저장소에 저장 (같은 사진이면 기존 파일 공유) 후 DB용 경로 반환
+        String dbPath = validationCheckAndSave(brandImage);
 
         // Base64는 디코딩해서 던져주고, MultiPartForm은 getBytes로 꺼냄
         Photo photo = photoRepository.save(Photo.builder()
@@ -73,6 +88,7 @@ public class PhotoService {
                 .sort(Photo.Sort.BRAND)
                 .isMainPhoto(true)  // 대표사진이라면 꼭 true 남겨주기
                 .createdAt(Timestamp.from(Instant.now())).build());
+        brandCatalog.refreshBrandAfterCommit(admin.getId());
     }
 
 
@@ -86,27 +102,25 @@ public class PhotoService {
         // admin ID로 사진을 조회
         Optional<Photo> existingPhotoOpt = photoRepository.findByAdminId(admin.getId());
 
-        // brand명대로 폴더 만들어서 경로 저장
-        String brandPath = "brand/" + admin.getBrandName().toLowerCase();
         String imgFilename = UUID.randomUUID() + "_" + brandImage.getOriginalFilename();
-        Path imgPath = Paths.get(uploadPath, brandPath, imgFilename);
+
+        // 같은 내용이면 저장소에서 기존 파일을 그대로 공유하므로 파일 이름 비교 없이 저장
+        String dbPath = validationCheckAndSave(brandImage);
 
         // 기존 사진이 있는 경우
         if (existingPhotoOpt.isPresent()) {
             Photo existingPhoto = existingPhotoOpt.get();
+            String oldPath = existingPhoto.getPath();
 
-            // 파일 이름이 다를 경우에만 파일을 저장
-            if (!brandImage.getOriginalFilename().equals(existingPhoto.getOriginalFileName())) {
-                validationCheckAndSave(brandImage, imgPath);
-            }
-
-            // 경로 업데이트
-            updateBrandPhoto(existingPhoto, imgFilename, brandPath, brandImage.getOriginalFilename());
+            // 경로 업데이트 후 이전 파일 참조 해제
+            updateBrandPhoto(existingPhoto, imgFilename, dbPath, brandImage.getOriginalFilename());
+            photoStorage.release(oldPath);
         } else {
             // 새로운 사진 등록
-            validationCheckAndSave(brandImage, imgPath);
-            saveNewBrandPhoto(admin, imgFilename, brandPath, brandImage.getOriginalFilename());
+            saveNewBrandPhoto(admin, imgFilename, dbPath, brandImage.getOriginalFilename());
         }
+        // 코디 아이템 선택 화면에 들고 있는 브랜드 사진도 커밋 후 교체
+        brandCatalog.refreshBrandAfterCommit(admin.getId());
     }
 
     // 아이템 메인 사진 업로드
@@ -118,17 +132,9 @@ public class PhotoService {
         // 파일명 중복 방지를 위해서 UUID 적용
         String imgFilename = UUID.randomUUID() + "_" + mainImage.getOriginalFilename();
 
-        // resourceHandler로 해당 폴더 개방 작업을 WebConfig에서 등록하고 여기 와야됨
-        // 파일이름이랑 개방된 폴더를 조합해서 경로생성
-        Path imgPath = Paths.get(uploadPath + imgFilename);
-
-        // 파일저장 핵심로직
-        // 파일 저장 로직 매개변수로 경로와 사진의 바이트 정보를 요구함
+        // 파일저장 핵심로직 : 내용 기반 저장소에 저장 후 DB용 경로 반환
         // 파일 저장 향후 파일 사이즈 유효성 추가 해야될것 TODO
-        validationCheckAndSave(mainImage, imgPath);
-
-        // DB저장 전 DB전용으로 경로 수정
-        String dbPath = "/upload/" + imgFilename;
+        String dbPath = validationCheckAndSave(mainImage);
 
         // Base64는 디코딩해서 던져주고, MultiPartForm은 getBytes로 꺼냄
         Photo photo = photoRepository.save(Photo.builder()
@@ -139,17 +145,18 @@ public class PhotoService {
                 .sort(Photo.Sort.ITEM)
                 .isMainPhoto(true)  // 대표사진이라면 꼭 true 남겨주기
                 .createdAt(Timestamp.from(Instant.now())).build());
+
+        // 목록용 축소본 생성 예약
+        photoVariantService.generateAfterCommit(photo);
     }
 
 
 
-    // 파일로 저장 + 예외처리
+    // 파일로 저장 + 예외처리 (내용 기반 저장소, 반환값은 DB용 경로)
     @Transactional
-    protected void validationCheckAndSave(MultipartFile image, Path imgPath) {
+    protected String validationCheckAndSave(MultipartFile image) {
         try {
-
-            Files.createDirectories(imgPath.getParent());
-            Files.write(imgPath, image.getBytes());
+            return photoStorage.store(image.getInputStream(), image.getOriginalFilename());
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -162,6 +169,12 @@ public class PhotoService {
         // 데이터베이스에 저장된 상대 경로
         String dbPath = dbPhoto.getPath();  // 예: /upload/uuid-filename.jpg
 
+        // 공유 저장소 파일은 참조만 해제 (마지막 참조일 때만 파일과 축소본 삭제)
+        if (photoStorage.isBlob(dbPath)) {
+            photoStorage.release(dbPath);
+            return;
+        }
+
         // 파일 이름 추출을 위한 마지막 '/' 위치 확인
         int lastSlashIndex = dbPath.lastIndexOf("/");
         if (lastSlashIndex == -1) {
@@ -177,6 +190,7 @@ public class PhotoService {
         try {
             if (Files.exists(pathToDelete)) {
                 Files.delete(pathToDelete);
+                photoVariantService.deleteVariants(dbPhoto);
             } else {
                 throw new IllegalStateException("파일이 존재하지 않습니다: " + pathToDelete);
             }
@@ -196,22 +210,9 @@ public class PhotoService {
         });
     }
 
-    // 앱] 메인 홈 화면 요청
+    // 앱] 메인 홈 화면 요청 : 미리 계산된 스냅샷에서 바로 반환 (DB 조회 없음)
     public PhotoResponse.Home getHomeLists() {
-        // 코디의 좋아요의 합으로 인기크리에이터를 좋아요받은 순으로 나열 + 대표 사진까지 찾기
-        List<LoveResponse.UserLoveCount> userLoveCounts = loveRepository.findUserIdsSortedByLoveCount();
-        List<Integer> popularCreators = userLoveCounts.stream().map(userLoveCount -> userLoveCount.getUserId()).toList();
-        List<Photo> popularUserPhotos = photoRepository.findByUserId(popularCreators);
-
-        // 인기 아이템의 id 조회 (총 판매량 순으로 아이템을 나열) + 사진 가져오기
-        List<Integer> itemsId = orderHistoryRepository.findItemsIdByTotalSales();
-        List<Photo> popularItemsPhotos = photoRepository.findByItemsIds(itemsId);
-
-        List<LoveResponse.CodiLoveCount> popularCodies = loveRepository.findCodiIdsSortedByLoveCount();
-        List<Integer> popularCodiIdes = popularCodies.stream().map(codiLoveCount -> codiLoveCount.getCodiId()).toList();
-        List<Photo> popularCodiPhotos = photoRepository.findByCodiIds(popularCodiIdes);
-
-        return new PhotoResponse.Home(popularUserPhotos, popularItemsPhotos, popularCodiPhotos);
+        return homeFeedSnapshot.get();
     }
 
 
@@ -224,19 +225,11 @@ public class PhotoService {
         // 파일명 중복 방지를 위해서 UUID 적용
         String imgFilename = UUID.randomUUID() + "_" + detailImage.getOriginalFilename();
 
-        // resourceHandler로 해당 폴더 개방 작업을 WebConfig에서 등록하고 여기 와야됨
-        // 파일이름이랑 개방된 폴더를 조합해서 경로생성
-        Path imgPath = Paths.get(uploadPath + imgFilename);
-
-        // 파일저장 핵심로직
-        // 파일 저장 로직 매개변수로 경로와 사진의 바이트 정보를 요구함
+        // 파일저장 핵심로직 : 내용 기반 저장소에 저장 후 DB용 경로 반환
         // 파일 저장 향후 파일 사이즈 유효성 추가 해야될것 TODO
-        validationCheckAndSave(detailImage, imgPath);
+        String dbPath = validationCheckAndSave(detailImage);
 
-        // DB 저장 전 경로 구분자 변경
-        String dbPath = "/upload/" + imgFilename;
-
-        photoRepository.save(Photo.builder()
+        Photo photo = photoRepository.save(Photo.builder()
                 .items(items)
                 .path(dbPath)
                 .uuidName(imgFilename)
@@ -244,12 +237,13 @@ public class PhotoService {
                 .sort(Photo.Sort.ITEM)
                 .isMainPhoto(false)  // 대표사진이라면 꼭 true 남겨주기
                 .createdAt(Timestamp.from(Instant.now())).build());
+
+        // 목록용 축소본 생성 예약
+        photoVariantService.generateAfterCommit(photo);
     }
 
     // 브랜드 사진 업데이트
-    private void updateBrandPhoto(Photo existingPhoto, String imgFilename, String brandPath, String originalFileName) {
-        String dbPath = "/upload/" + brandPath + "/" + imgFilename;
-
+    private void updateBrandPhoto(Photo existingPhoto, String imgFilename, String dbPath, String originalFileName) {
         existingPhoto.setPath(dbPath);
         existingPhoto.setUuidName(imgFilename);
         existingPhoto.setOriginalFileName(originalFileName);
@@ -259,9 +253,7 @@ public class PhotoService {
     }
 
     // 브랜드 사진 저장
-    private void saveNewBrandPhoto(Admin admin, String imgFilename, String brandPath, String originalFileName) {
-        String dbPath = "/upload/" + brandPath + "/" + imgFilename;
-
+    private void saveNewBrandPhoto(Admin admin, String imgFilename, String dbPath, String originalFileName) {
         photoRepository.save(Photo.builder()
                 .admin(admin)
                 .path(dbPath)
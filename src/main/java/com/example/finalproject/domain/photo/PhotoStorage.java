@@ -0,0 +1,142 @@
+package com.example.finalproject.domain.photo;
+
+import com.example.finalproject._core.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+// 내용 기반(content-addressed) 사진 저장소
+// 저장하면서 SHA-256을 계산하고, 같은 내용의 파일은 /upload/blob/ 아래에 한 번만 저장한다
+// 참조 수는 photo_blob_tb 에서 관리하고, 마지막 참조가 사라질 때만 파일을 지운다
+// 같은 내용에 대한 저장/삭제는 photo_blob_tb 행 잠금과 digest 유니크 제약으로 순서가 정해진다
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PhotoStorage {
+    private static final String BLOB_DB_PREFIX = "/upload/blob/";
+
+    private final PhotoBlobRepository photoBlobRepository;
+    private final PhotoBlobRefRepository photoBlobRefRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final String uploadPath = "./upload/";
+
+    // 스트림을 임시 파일로 저장하면서 해시 계산 후, 이미 있는 내용이면 참조 수만 올린다
+    // 반환값은 Photo.path 에 저장할 DB용 경로
+    public String store(InputStream in, String originalFileName) {
+        Path tmpFile = Paths.get(uploadPath, "tmp", UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(tmpFile.getParent());
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream digestIn = new DigestInputStream(in, sha256)) {
+                size = Files.copy(digestIn, tmpFile);
+            }
+            String digest = HexFormat.of().formatHex(sha256.digest());
+            String dbPath = BLOB_DB_PREFIX + digest.substring(0, 2) + "/" + digest + extension(originalFileName);
+
+            // 호출한 트랜잭션 안에서 참조 수를 올린다 (별도 트랜잭션을 열지 않아 업로드마다 커넥션은 하나)
+            // 롤백되면 참조 수도 같이 되돌아가고, 새로 옮긴 파일은 남겨 두었다가 같은 내용이 다시 올라오면 그대로 쓴다
+            if (photoBlobRefRepository.increase(digest) > 0) {
+                return photoBlobRefRepository.findPath(digest);
+            }
+            Path target = toFilePath(dbPath);
+            Files.createDirectories(target.getParent());
+            Files.move(tmpFile, target, StandardCopyOption.REPLACE_EXISTING);
+            if (photoBlobRefRepository.insert(digest, dbPath, size)) {
+                return dbPath;
+            }
+            // 다른 요청이 같은 내용을 먼저 커밋함 (digest 유니크 제약) -> 그 행의 참조 수를 올린다
+            photoBlobRefRepository.increase(digest);
+            return photoBlobRefRepository.findPath(digest);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("사진 저장 중 오류 발생", e);
+        } finally {
+            try {
+                Files.deleteIfExists(tmpFile);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패 : " + tmpFile);
+            }
+        }
+    }
+
+    // 공유 저장소에 있는 파일인지 확인 (이전 방식으로 저장된 사진은 false)
+    public boolean isBlob(String dbPath) {
+        return dbPath != null && dbPath.startsWith(BLOB_DB_PREFIX);
+    }
+
+    // 참조 하나 해제, 트랜잭션 안이라면 커밋된 후에 처리한다
+    public void release(String dbPath) {
+        if (!isBlob(dbPath)) {
+            return;
+        }
+        AfterCommit.run(() -> releaseNow(dbPath));
+    }
+
+    // 참조 수가 0이 되면 행 잠금을 쥔 채 파일까지 지운 뒤 커밋한다
+    // 그 사이 같은 내용을 저장하려는 요청은 increase 에서 잠금을 기다렸다가 행이 없으므로 파일을 새로 옮긴다
+    private void releaseNow(String dbPath) {
+        newTransaction().executeWithoutResult(status -> {
+            if (photoBlobRepository.decreaseRefCount(dbPath) == 0) {
+                return;
+            }
+            Optional<PhotoBlob> blob = photoBlobRepository.findByPath(dbPath);
+            if (blob.isPresent() && blob.get().getRefCount() <= 0) {
+                photoBlobRepository.delete(blob.get());
+                photoBlobRepository.flush();
+                deleteFiles(dbPath, blob.get().getDigest());
+            }
+        });
+    }
+
+    // 원본 파일과 함께 만들어진 축소본(<digest>_w*.jpg)도 삭제
+    private void deleteFiles(String dbPath, String digest) {
+        Path file = toFilePath(dbPath);
+        try {
+            Files.deleteIfExists(file);
+            try (DirectoryStream<Path> variants = Files.newDirectoryStream(file.getParent(), digest + "_w*")) {
+                for (Path variant : variants) {
+                    Files.deleteIfExists(variant);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("사진 파일 삭제 실패 : " + dbPath);
+        }
+    }
+
+    // 참조 해제는 커밋된 후(또는 트랜잭션 밖)에만 실행되므로 따로 커밋한다
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private Path toFilePath(String dbPath) {
+        return Paths.get(uploadPath, dbPath.substring("/upload/".length()));
+    }
+
+    // 확장자는 영문/숫자만 허용
+    private String extension(String originalFileName) {
+        if (originalFileName == null) {
+            return "";
+        }
+        int dot = originalFileName.lastIndexOf('.');
+        if (dot < 0 || dot == originalFileName.length() - 1) {
+            return "";
+        }
+        String ext = originalFileName.substring(dot + 1).toLowerCase();
+        return ext.matches("[a-z0-9]{1,5}") ? "." + ext : "";
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.finalproject.domain.photo;
+
+import com.example.finalproject._core.error.exception.Exception400;
+import com.example.finalproject._core.utils.Base64Util;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+// 앱에서 base64 사진을 요청 본문으로 먼저 흘려보내면 읽는 즉시 디코딩해서 임시 파일로 보관
+// 코디 등록/프로필 수정 요청에서는 base64 대신 uploadId로 이 파일을 가져다 쓴다
+@Slf4j
+@Component
+public class PhotoUploadStaging {
+    private static final Duration EXPIRE = Duration.ofHours(1);
+    private final Path stagingDir = Paths.get("./upload/tmp/staged");
+
+    // 요청 본문(base64)을 디코딩하면서 임시 파일로 저장, 잘못된 형식이면 Exception400
+    public PhotoResponse.StagedUpload stage(InputStream body) {
+        String uploadId = UUID.randomUUID().toString();
+        Path file = stagingDir.resolve(uploadId);
+        try {
+            Files.createDirectories(stagingDir);
+            long size = Files.copy(Base64Util.decodingStream(body), file);
+            if (size == 0) {
+                throw new Exception400("사진 데이터가 없습니다.");
+            }
+            return new PhotoResponse.StagedUpload(uploadId, size);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new RuntimeException("사진 업로드 중 오류 발생", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    // 임시 파일 열기, 스트림을 닫으면 임시 파일도 삭제된다
+    public InputStream take(String uploadId) {
+        Path file = resolve(uploadId);
+        try {
+            return new FilterInputStream(Files.newInputStream(file)) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    deleteQuietly(file);
+                }
+            };
+        } catch (IOException e) {
+            throw new Exception400("업로드된 사진을 찾을 수 없습니다.");
+        }
+    }
+
+    // 사용되지 않고 남은 임시 파일 정리
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void sweep() {
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+        Instant expired = Instant.now().minus(EXPIRE);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(expired)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("임시 사진 정리 실패 : " + e.getMessage());
+        }
+    }
+
+    // uploadId는 UUID 형식만 허용 (경로 조작 방지)
+    private Path resolve(String uploadId) {
+        try {
+            return stagingDir.resolve(UUID.fromString(uploadId).toString());
+        } catch (IllegalArgumentException e) {
+            throw new Exception400("잘못된 업로드 번호입니다.");
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 사진 삭제 실패 : " + file);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.finalproject.domain.photo;
+
+import com.example.finalproject._core.logging.CorrelationId;
+import com.example.finalproject._core.utils.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드된 원본 사진으로 목록용 축소본(thumb/medium)을 만드는 서비스
+// 요청 스레드를 막지 않도록 크기가 정해진 백그라운드 스레드풀에서 처리하고, 결과 경로를 Photo에 기록한다
+// 대기열이 넘쳐 건너뛴 사진이나 이전에 올라온 사진은 앱 시작 시 한 번 훑어서 채운다
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PhotoVariantService {
+    private static final int BACKFILL_PAGE_SIZE = 100;
+
+    private final PhotoRepository photoRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final String uploadPath = "./upload/";
+
+    @Value("${photo-variant.backfill:true}")
+    private boolean backfill;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    // 작업이 밀리면 큐가 가득 찬 이후 요청은 축소본 없이 원본만 사용 (업로드 자체는 막지 않음, 다음 시작 때 보충)
+    // 유한 큐에서는 큐가 가득 차야 코어 수를 넘는 스레드가 생기므로 코어 = 최대로 두 스레드가 항상 같이 일한다
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            2, 2, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100),
+            r -> {
+                Thread thread = new Thread(r, "photo-variant-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (task, pool) -> log.warn("사진 축소본 작업 대기열이 가득 차서 건너뜀"));
+
+    // 사진 저장 트랜잭션이 커밋된 후 축소본 생성 예약
+    public void generateAfterCommit(Photo photo) {
+        Integer photoId = photo.getId();
+        String dbPath = photo.getPath();
+        AfterCommit.run(() -> executor.execute(CorrelationId.wrap(() -> generate(photoId, dbPath))));
+    }
+
+    // 축소본이 없는 사진을 번호순으로 훑어서 채움 (업로드 작업과 겹치지 않게 별도 스레드에서 하나씩)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfill) {
+            return;
+        }
+        Thread thread = new Thread(this::backfill, "photo-variant-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void backfill() {
+        int count = 0;
+        Integer cursor = null;
+        try {
+            List<Object[]> rows;
+            do {
+                rows = photoRepository.findWithoutVariants(cursor, PageRequest.ofSize(BACKFILL_PAGE_SIZE));
+                for (Object[] row : rows) {
+                    cursor = (Integer) row[0];
+                    generate(cursor, (String) row[1]);
+                    count++;
+                }
+            } while (rows.size() == BACKFILL_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("사진 축소본 보충 중단 : " + e.getMessage());
+        }
+        log.info("사진 축소본 보충 완료 : " + count + "건");
+    }
+
+    private void generate(Integer photoId, String dbPath) {
+        try {
+            Path original = toFilePath(dbPath);
+            BufferedImage source = ImageIO.read(original.toFile());
+            if (source == null) {
+                // ImageIO가 읽지 못하는 형식(webp 등)은 원본만 사용 (원본 경로를 기록해서 다시 훑지 않음)
+                saveVariantPaths(photoId, dbPath, dbPath, dbPath);
+                return;
+            }
+            String thumbPath = writeVariant(source, dbPath, Photo.THUMB_WIDTH);
+            String mediumPath = writeVariant(source, dbPath, Photo.MEDIUM_WIDTH);
+            saveVariantPaths(photoId, dbPath, thumbPath, mediumPath);
+        } catch (IOException | RuntimeException e) {
+            log.warn("사진 축소본 생성 실패 photoId=" + photoId + " : " + e.getMessage());
+        }
+    }
+
+    // 축소본 경로 기록 (생성 도중 원본이 바뀐 경우에는 반영하지 않음)
+    // 변경 감지로 그 사진 한 건만 UPDATE 하므로 2차 캐시(photo)도 그 항목만 갱신된다
+    private void saveVariantPaths(Integer photoId, String dbPath, String thumbPath, String mediumPath) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                photoRepository.findById(photoId)
+                        .filter(photo -> dbPath.equals(photo.getPath()))
+                        .ifPresent(photo -> {
+                            photo.setThumbPath(thumbPath);
+                            photo.setMediumPath(mediumPath);
+                        }));
+    }
+
+    // 원본이 목표 크기보다 작으면 원본 경로를 그대로 사용
+    private String writeVariant(BufferedImage source, String dbPath, int width) throws IOException {
+        if (source.getWidth() <= width) {
+            return dbPath;
+        }
+        // 같은 원본(내용 기반 저장소)으로 이미 만들어 둔 축소본이 있으면 재사용
+        String variantDbPath = variantPath(dbPath, width);
+        Path target = toFilePath(variantDbPath);
+        if (Files.exists(target)) {
+            return variantDbPath;
+        }
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // jpg 저장을 위해 투명 배경은 흰색으로 채움
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+
+        Files.createDirectories(target.getParent());
+        ImageIO.write(resized, "jpg", target.toFile());
+        return variantDbPath;
+    }
+
+    // 원본과 함께 축소본 파일 삭제 (원본 경로를 그대로 쓰는 경우는 건너뜀)
+    public void deleteVariants(Photo photo) {
+        for (String variant : new String[]{photo.getThumbPath(), photo.getMediumPath()}) {
+            if (variant == null || variant.equals(photo.getPath())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(toFilePath(variant));
+            } catch (IOException e) {
+                log.warn("사진 축소본 삭제 실패 : " + variant);
+            }
+        }
+    }
+
+    // /upload/a/b.png -> /upload/a/b_w320.jpg
+    private String variantPath(String dbPath, int width) {
+        int dot = dbPath.lastIndexOf('.');
+        String base = dot > dbPath.lastIndexOf('/') ? dbPath.substring(0, dot) : dbPath;
+        return base + "_w" + width + ".jpg";
+    }
+
+    private Path toFilePath(String dbPath) {
+        String relativePath = dbPath.startsWith("/upload/") ? dbPath.substring("/upload/".length()) : dbPath;
+        return Paths.get(uploadPath, relativePath);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
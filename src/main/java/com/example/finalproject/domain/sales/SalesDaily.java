@@ -0,0 +1,54 @@
+package com.example.finalproject.domain.sales;
+
+import com.example.finalproject.domain.admin.Admin;
+import com.example.finalproject.domain.items.Items;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 브랜드/아이템/일자별 매출 집계 (주문이 커밋될 때 함께 누적)
+// 매출 화면은 주문 내역 전체 대신 이 테이블을 읽어서 기간(일 수)에 비례하는 비용으로 조회한다
+@NoArgsConstructor
+@Entity
+@Table(name = "sales_daily_tb",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_daily", columnNames = {"admin_id", "items_id", "sales_date"}))
+@Data
+public class SalesDaily {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @JoinColumn(name = "admin_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Admin admin; // 브랜드 고유번호
+
+    @JoinColumn(name = "items_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Items items; // 아이템 고유번호
+
+    @Column(nullable = false)
+    private LocalDate salesDate; // 주문 일자
+
+    @Column(nullable = false)
+    private Long qty; // 판매 수량 합계
+
+    @Column(nullable = false)
+    private Long revenue; // 판매 금액 합계
+
+    @Column(nullable = false)
+    private Double fee; // 수수료 합계
+
+    @Builder
+    public SalesDaily(Integer id, Admin admin, Items items, LocalDate salesDate, Long qty, Long revenue, Double fee) {
+        this.id = id;
+        this.admin = admin;
+        this.items = items;
+        this.salesDate = salesDate;
+        this.qty = qty;
+        this.revenue = revenue;
+        this.fee = fee;
+    }
+}
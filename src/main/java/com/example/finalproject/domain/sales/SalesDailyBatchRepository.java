@@ -0,0 +1,41 @@
+package com.example.finalproject.domain.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 일자별 매출 집계 누적/재계산
+// JPA 트랜잭션과 같은 커넥션을 사용하므로 주문 저장 트랜잭션에 함께 커밋/롤백된다
+@RequiredArgsConstructor
+@Repository
+public class SalesDailyBatchRepository {
+    // (브랜드, 아이템, 일자) 행이 있으면 더하고 없으면 추가
+    private static final String UPSERT_SALES_DAILY =
+            "insert into sales_daily_tb (admin_id, items_id, sales_date, qty, revenue, fee) values (?, ?, ?, ?, ?, ?) " +
+                    "on duplicate key update qty = qty + values(qty), revenue = revenue + values(revenue), fee = fee + values(fee)";
+    // 주문 내역 전체로 다시 집계
+    private static final String INSERT_FROM_ORDER_HISTORY =
+            "insert into sales_daily_tb (admin_id, items_id, sales_date, qty, revenue, fee) " +
+                    "select oh.admin_id, oh.items_id, cast(o.order_date as date), " +
+                    "sum(oh.order_item_qty), sum(oh.order_item_price), sum(coalesce(oh.fee, 0)) " +
+                    "from order_history_tb oh join order_tb o on o.id = oh.order_id " +
+                    "where oh.admin_id is not null and oh.items_id is not null " +
+                    "group by oh.admin_id, oh.items_id, cast(o.order_date as date)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // {admin_id, items_id, sales_date, qty, revenue, fee} 목록을 한 번의 배치로 누적
+    public void addAll(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SALES_DAILY, rows);
+    }
+
+    public int rebuild() {
+        jdbcTemplate.update("delete from sales_daily_tb");
+        return jdbcTemplate.update(INSERT_FROM_ORDER_HISTORY);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.finalproject.domain.sales;
+
+import com.example.finalproject.domain.admin.AdminResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesDailyRepository extends JpaRepository<SalesDaily, Integer> {
+    // 브랜드의 아이템/일자별 매출 (아이템 번호, 아이템명, 수량, 금액)
+    @Query("SELECT s.items.id, s.items.name, s.qty, s.revenue FROM SalesDaily s WHERE s.admin.id = :adminId")
+    List<Object[]> findItemDaysByAdminId(@Param("adminId") int adminId);
+
+    // 브랜드의 아이템/일자별 매출 기간 검색 (시작일이나 종료일이 없으면 그쪽은 열린 구간)
+    @Query("SELECT s.items.id, s.items.name, s.qty, s.revenue FROM SalesDaily s " +
+            "WHERE s.admin.id = :adminId " +
+            "AND (:startDate IS NULL OR s.salesDate >= :startDate) " +
+            "AND (:endDate IS NULL OR s.salesDate <= :endDate)")
+    List<Object[]> findItemDaysByAdminIdAndDate(@Param("adminId") int adminId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    //관리자의 브랜드별 매출 목록보기
+    @Query("SELECT NEW com.example.finalproject.domain.admin.AdminResponse$SalesList(s.admin, SUM(s.revenue), SUM(s.fee)) " +
+            "FROM SalesDaily s " +
+            "GROUP BY s.admin.id")
+    List<AdminResponse.SalesList> getTotalSalesAndFeePerBrand();
+
+    //관리자의 브랜드별 매출 브랜드명 검색 목록보기
+    @Query("SELECT NEW com.example.finalproject.domain.admin.AdminResponse$SalesList(s.admin, SUM(s.revenue), SUM(s.fee)) " +
+            "FROM SalesDaily s " +
+            "where s.admin.brandName like %:keyword% " +
+            "GROUP BY s.admin.id")
+    List<AdminResponse.SalesList> getTotalSalesAndFeePerBrandAndBrandName(@Param("keyword") String keyword);
+
+    //관리자의 브랜드별 매출 브랜드코드 검색 목록보기
+    @Query("SELECT NEW com.example.finalproject.domain.admin.AdminResponse$SalesList(s.admin, SUM(s.revenue), SUM(s.fee)) " +
+            "FROM SalesDaily s " +
+            "where cast(s.admin.id as string) like %:keyword% " +
+            "GROUP BY s.admin.id")
+    List<AdminResponse.SalesList> getTotalSalesAndFeePerBrandAndBrandId(@Param("keyword") String keyword);
+
+    // 전체 매출
+    @Query("SELECT COALESCE(SUM(s.revenue), 0) FROM SalesDaily s")
+    Long getTotalRevenue();
+}
@@ -0,0 +1,59 @@
+package com.example.finalproject.domain.sales;
+
+import com.example.finalproject.domain.order.Order;
+import com.example.finalproject.domain.orderHistory.OrderHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 일자별 매출 집계 유지
+// 주문 저장 트랜잭션 안에서 (브랜드, 아이템, 일자) 단위로 누적하므로 주문이 커밋되면 집계도 같이 커밋된다
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SalesRollupService {
+    private final SalesDailyRepository salesDailyRepository;
+    private final SalesDailyBatchRepository salesDailyBatchRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 주문 하나의 상세 내역을 브랜드/아이템별로 합쳐서 누적 (호출한 트랜잭션에 포함)
+    public void record(Order order, List<OrderHistory> orderHistories) {
+        LocalDate salesDate = order.getOrderDate().toLocalDateTime().toLocalDate();
+
+        // 여러 주문이 같은 행을 누적할 때 교착 상태가 없도록 (브랜드, 아이템) 순서로 정렬
+        Map<Long, Object[]> rowByKey = new TreeMap<>();
+        for (OrderHistory orderHistory : orderHistories) {
+            int adminId = orderHistory.getAdmin().getId();
+            int itemsId = orderHistory.getItems().getId();
+            Object[] row = rowByKey.computeIfAbsent(((long) adminId << 32) | itemsId,
+                    key -> new Object[]{adminId, itemsId, Date.valueOf(salesDate), 0L, 0L, 0.0});
+            row[3] = (long) row[3] + orderHistory.getOrderItemQty();
+            row[4] = (long) row[4] + orderHistory.getOrderItemPrice();
+            row[5] = (double) row[5] + (orderHistory.getFee() == null ? 0 : orderHistory.getFee());
+        }
+
+        List<Object[]> rows = new ArrayList<>(rowByKey.values());
+        salesDailyBatchRepository.addAll(rows);
+    }
+
+    // 집계 테이블이 비어 있으면 (첫 배포, 더미 데이터) 주문 내역으로 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (salesDailyRepository.count() > 0) {
+            return;
+        }
+        Integer rows = new TransactionTemplate(transactionManager).execute(status -> salesDailyBatchRepository.rebuild());
+        log.info("일자별 매출 집계 생성 : " + rows + "건");
+    }
+}
@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Entity
 @Data
-@Table(name = "user_tb")
+@Table(name = "user_tb", indexes = @Index(name = "idx_user_mobile", columnList = "mobile"))
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,6 +50,7 @@ public class User {
 
     private String instagram; // 인스타그램
 
+    @Column(updatable = false) // 원장 합산(MileageService)으로만 변경
     private Integer mileage; // 크리에이터의 마일리지
 
     @Column(nullable = false)
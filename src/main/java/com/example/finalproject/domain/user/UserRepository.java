@@ -1,5 +1,6 @@
 package com.example.finalproject.domain.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,6 +33,10 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     @Query("SELECT u FROM User u where u.nickName like %:keyword%")
     List<User> findByNickName(@Param("keyword") String keyword);
 
+    // 유저 목록 커서 페이징 (번호순)
+    @Query("SELECT u FROM User u where (:cursor is null or u.id > :cursor) order by u.id")
+    List<User> findPageAfter(@Param("cursor") Integer cursor, Pageable pageable);
+
     // 유저 이메일 검색
     @Query("SELECT u FROM User u where u.email like %:keyword%")
     List<User> findByEmailKeyword(@Param("keyword") String keyword);
@@ -37,6 +37,7 @@ public class UserRequest {
         public static class PhotoDTO {
             private String name;
             private String base64;
+            private String uploadId; // /app/photos/upload 로 먼저 올린 경우 base64 대신 사용
 
             public PhotoDTO(String name, String base64) {
                 this.name = name;
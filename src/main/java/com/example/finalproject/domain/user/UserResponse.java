@@ -84,7 +84,7 @@ public class UserResponse {
                 Photo codiPhoto = codiPhotos.get(0); // 첫 번째 포토만 사용
                 this.codiPhotoId = codiPhoto.getId();
                 this.photoName = codiPhoto.getUuidName();
-                this.photoPath = codiPhoto.getPath();
+                this.photoPath = codiPhoto.pathForWidth(Photo.THUMB_WIDTH);
                 this.codiPhoto = codiPhoto.getSort();
             }
         }
@@ -162,7 +162,7 @@ public class UserResponse {
                 Photo codiPhoto = codiPhotos.get(0); // 첫 번째 포토만 사용
                 this.codiPhotoId = codiPhoto.getId();
                 this.photoName = codiPhoto.getUuidName();
-                this.photoPath = codiPhoto.getPath();
+                this.photoPath = codiPhoto.pathForWidth(Photo.THUMB_WIDTH);
                 this.codiPhoto = codiPhoto.getSort();
             }
         }
@@ -189,7 +189,7 @@ public class UserResponse {
                 Photo itemPhoto = itemPhotos.get(0); // 첫 번째 포토만 사용
                 this.itemPhotoId = itemPhoto.getId();
                 this.itemPhotoName = itemPhoto.getUuidName();
-                this.photoPath = itemPhoto.getPath();
+                this.photoPath = itemPhoto.pathForWidth(Photo.THUMB_WIDTH);
                 this.itemPhoto = itemPhoto.getSort();
             }
         }
@@ -336,6 +336,8 @@ public class UserResponse {
     public static class SearchPage {
         private List<CodiResponse.CodiListDTO> codiListDTOS;
         private List<ItemsResponse.ItemListDTO> itemListDTOS;
+        private Integer codiNextCursor; // 검색어가 없을 때 다음 코디 페이지 커서 (마지막 페이지면 null)
+        private Integer itemNextCursor; // 검색어가 없을 때 다음 아이템 페이지 커서 (마지막 페이지면 null)
 
         public SearchPage(List<CodiResponse.CodiListDTO> codiListDTOS, List<ItemsResponse.ItemListDTO> itemListDTOS) {
             this.codiListDTOS = codiListDTOS;
@@ -1,6 +1,7 @@
 package com.example.finalproject.domain.user;
 
 
+import com.example.finalproject._core.metrics.QueryBudget;
 import com.example.finalproject._core.utils.ApiUtil;
 import com.example.finalproject._core.utils.AppJwtUtil;
 import com.example.finalproject._core.utils.JwtVO;
@@ -16,9 +17,9 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 public class UserRestController {
     private final UserService userService;
-    private final HttpSession session;
 
     //자동로그인
+    @QueryBudget(5)
     @PostMapping("/app/auto/login")
     public ResponseEntity<?> autoLogin(HttpServletRequest request) {
         String accessToken = request.getHeader("Authorization");
@@ -30,14 +31,15 @@ public class UserRestController {
 
 
     // 앱 프로필 화면
+    @QueryBudget(3)
     @GetMapping("/app/profile")
-    public ResponseEntity<?> profilePage() {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> profilePage(SessionUser sessionUser) {
         UserResponse.ProfilePage respDTO = userService.profilePage(sessionUser);
         return ResponseEntity.ok(new ApiUtil(respDTO));
     }
 
     // 앱] 로그인 요청
+    @QueryBudget(3)
     @PostMapping("/user/login")
     public ResponseEntity<?> login(@Valid @RequestBody UserRequest.LoginDTO reqDTO, Errors errors) {
         User user = userService.login(reqDTO);
@@ -47,13 +49,19 @@ public class UserRestController {
     }
 
     // 앱] 로그아웃
+    @QueryBudget(0)
     @GetMapping("/user/logout")
-    public ResponseEntity<?> logout() {
-        session.invalidate();
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        // 앱은 토큰을 버리면 로그아웃 (예전에 만들어진 세션이 있으면 정리)
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
         return ResponseEntity.ok(new ApiUtil(null));
     }
 
     // 앱] 회원가입
+    @QueryBudget(3)
     @PostMapping("/user/join")
     public ResponseEntity<?> join(@Valid @RequestBody UserRequest.JoinDTO reqDTO, Errors errors) {
         User user = userService.join(reqDTO);
@@ -63,30 +71,31 @@ public class UserRestController {
     }
 
     // 앱 세팅 화면 (사용자 정보 변경)
+    @QueryBudget(3)
     @GetMapping("/app/setting")
-    public ResponseEntity<?> settingPage() {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> settingPage(SessionUser sessionUser) {
         UserResponse.SettingPage respDTO = userService.settingPage(sessionUser);
         return ResponseEntity.ok(new ApiUtil(respDTO));
     }
 
     // 앱 사용자 크리에이터 지원 페이지
+    @QueryBudget(3)
     @GetMapping("/app/creator-apply-form")
-    public ResponseEntity<?> creatorApplyPage() {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> creatorApplyPage(SessionUser sessionUser) {
         UserResponse.CreatorApply respDTO = userService.creatorApplyPage(sessionUser);
         return ResponseEntity.ok(new ApiUtil(respDTO));
     }
 
     // 앱 사용자 크리에이터 지원하기
+    @QueryBudget(5)
     @PutMapping("/app/creator-apply")
-    public ResponseEntity<?> creatorApply(@Valid @RequestBody UserRequest.CreatorApplyDTO creatorApplyDTO, Errors errors) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> creatorApply(@Valid @RequestBody UserRequest.CreatorApplyDTO creatorApplyDTO, Errors errors, SessionUser sessionUser) {
         UserResponse.CreatorApply respDTO = userService.creatorApply(creatorApplyDTO, sessionUser);
         return ResponseEntity.ok(new ApiUtil(respDTO));
     }
 
     //크리에이터 뷰 페이지
+    @QueryBudget(14)
     @GetMapping("/app/creator-view/{userId}")
     public ResponseEntity<?> creatorView(@PathVariable Integer userId) {
         UserResponse.CreatorViewDTO respDTO = userService.creatorView(userId);
@@ -94,29 +103,34 @@ public class UserRestController {
     }
 
     //크리에이터 마이 페이지
+    @QueryBudget(15)
     @GetMapping("/app/creator-my-page")
-    public ResponseEntity<?> creatorMyPage() {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> creatorMyPage(SessionUser sessionUser) {
         UserResponse.CreatorMyPage respDTO = userService.creatorMyPage(sessionUser);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     //유저 마이페이지
+    @QueryBudget(4)
     @GetMapping("/app/user-my-page")
-    public ResponseEntity<?> usrMyPage() {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public ResponseEntity<?> usrMyPage(SessionUser sessionUser) {
         UserResponse.UserMyPage respDTO = userService.userMyPage(sessionUser);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     // 유저 아이템, 코디 통합 검색
+    @QueryBudget(30)
     @GetMapping("/app/search-all")
-    public ResponseEntity<?> searchPage(@RequestParam(defaultValue = "") String keyword) {
-        UserResponse.SearchPage respDTO = userService.searchPage(keyword);
+    public ResponseEntity<?> searchPage(@RequestParam(defaultValue = "") String keyword,
+                                        @RequestParam(required = false) Integer codiCursor,
+                                        @RequestParam(required = false) Integer itemCursor,
+                                        @RequestParam(required = false) Integer size) {
+        UserResponse.SearchPage respDTO = userService.searchPage(keyword, codiCursor, itemCursor, size);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     // 프로필 변경
+    @QueryBudget(6)
     @PutMapping("/user/profile/{userId}")
     public ResponseEntity<?> profileUpdate(@Valid @RequestBody UserRequest.ProfileUpdateDTO reqDTO, Errors errors, @PathVariable(name = "userId") Integer userId) {
         UserResponse.ProfileUpdate respDTO = userService.updateProfile(reqDTO, userId);
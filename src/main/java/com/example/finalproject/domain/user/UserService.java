@@ -3,28 +3,40 @@ package com.example.finalproject.domain.user;
 import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.example.finalproject._core.concurrent.PageComposer;
 import com.example.finalproject._core.error.exception.Exception400;
 import com.example.finalproject._core.error.exception.Exception401;
 import com.example.finalproject._core.error.exception.Exception404;
 import com.example.finalproject._core.utils.AppJwtUtil;
+import com.example.finalproject._core.utils.Base64Util;
+import com.example.finalproject._core.utils.CursorPage;
 import com.example.finalproject.domain.codi.Codi;
 import com.example.finalproject.domain.codi.CodiRepository;
 import com.example.finalproject.domain.codi.CodiResponse;
+import com.example.finalproject.domain.codi.CodiSearchIndex;
 import com.example.finalproject.domain.items.Items;
 import com.example.finalproject.domain.items.ItemsRepository;
 import com.example.finalproject.domain.items.ItemsResponse;
+import com.example.finalproject.domain.items.ItemsSearchIndex;
+import com.example.finalproject.domain.mileage.MileageLedger;
+import com.example.finalproject.domain.mileage.MileageService;
 import com.example.finalproject.domain.orderHistory.OrderHistoryRepository;
 import com.example.finalproject.domain.photo.Photo;
 import com.example.finalproject.domain.photo.PhotoRepository;
+import com.example.finalproject.domain.photo.PhotoUploadStaging;
+import com.example.finalproject.domain.photo.PhotoVariantService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.codec.binary.Base64;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -33,6 +45,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -41,6 +54,12 @@ public class UserService {
     private final ItemsRepository itemsRepository;
     private final OrderHistoryRepository orderHistoryRepository;
     private final PhotoRepository photoRepository;
+    private final PhotoVariantService photoVariantService;
+    private final PhotoUploadStaging photoUploadStaging;
+    private final MileageService mileageService;
+    private final ItemsSearchIndex itemsSearchIndex;
+    private final CodiSearchIndex codiSearchIndex;
+    private final PageComposer pageComposer;
     private final String uploadPath = "./upload/";
 
 
@@ -51,7 +70,6 @@ public class UserService {
             if (accessToken.startsWith("Bearer ")) {
                 accessToken = accessToken.substring(7);
             }
-            System.out.println("accessToken = " + accessToken);
             SessionUser user = AppJwtUtil.verify(accessToken);
 
             User userPS = userRepository.findByEmail(user.getEmail()).orElseThrow(
@@ -105,13 +123,13 @@ public class UserService {
 
         //파일 저장 (fileWrite)
         //파일 저장 로직 매개변수로 경로와 사진의 바이트 정보를 요구한다.
-        validationCheckAndSave(photo.getBase64(), imgPath);
+        validationCheckAndSave(photo, imgPath);
 
         //DB저장 전 DB전용으로 경로 수정
         String dbPath = "/upload/" + userPath + "/" + imgFilename;
 
         // Base64는 디코딩해서 던져주고, MultiPartForm은 getBytes로 꺼냄
-        return photoRepository.save(Photo.builder()
+        Photo savedPhoto = photoRepository.save(Photo.builder()
                 .user(updatedUser)
                 .path(dbPath)
                 .uuidName(imgFilename)
@@ -119,6 +137,10 @@ public class UserService {
                 .sort(Photo.Sort.USER)
                 .isMainPhoto(true)  // 대표사진이라면 꼭 true 남겨주기
                 .createdAt(Timestamp.from(Instant.now())).build());
+
+        // 목록용 축소본 생성 예약
+        photoVariantService.generateAfterCommit(savedPhoto);
+        return savedPhoto;
     }
 
 
@@ -132,9 +154,9 @@ public class UserService {
         Path newImgPath = Paths.get(uploadPath, userPath, newUuidName);
 
         if (!Files.exists(newImgPath)) { //파일이 없다면 저장
-            validationCheckAndSave(newPhoto.getBase64(), newImgPath);
+            validationCheckAndSave(newPhoto, newImgPath);
         } else {
-            System.out.println("파일이 이미 존재합니다: " + newImgPath);
+            log.debug("파일이 이미 존재합니다: " + newImgPath);
         }
         // 경로 업데이트
         return updateUserPhoto(oldPhoto, newUuidName, userPath, newPhoto.getName());
@@ -149,8 +171,13 @@ public class UserService {
         oldPhoto.setUuidName(newUuidName);
         oldPhoto.setOriginalFileName(originalFileName);
         oldPhoto.setUpdateAt(Timestamp.from(Instant.now())); // update 시간을 기록하려면 이 필드가 필요함
+        // 이전 사진의 축소본은 더 이상 쓰지 않음
+        oldPhoto.setThumbPath(null);
+        oldPhoto.setMediumPath(null);
 
-        return photoRepository.save(oldPhoto);
+        Photo savedPhoto = photoRepository.save(oldPhoto);
+        photoVariantService.generateAfterCommit(savedPhoto);
+        return savedPhoto;
     }
 
     //회원가입
@@ -263,57 +290,70 @@ public class UserService {
 
     //크리에이터 마이페이지
     public UserResponse.CreatorMyPage creatorMyPage(SessionUser sessionUser) {
+        // 서로 독립적인 조회는 동시에 실행
+        PageComposer.Page page = pageComposer.open();
         // 1. 유저 정보 불러오기
-        User user = userRepository.findUsersByBlueCheckedAndPhoto(sessionUser.getId())
-                .orElseThrow(() -> new Exception401("인증 되지 않았습니다."));
+        PageComposer.Part<User> user = page.fork("user", () ->
+                userRepository.findUsersByBlueCheckedAndPhoto(sessionUser.getId())
+                        .orElseThrow(() -> new Exception401("인증 되지 않았습니다.")));
 
-        // 2. 주문 총 량 찾아오기
-        Integer sumOrderItemQty = orderHistoryRepository.getTotalOrderItemQtyByUserId(Long.valueOf(sessionUser.getId()));
+        // 2. 주문 총 량 찾아오기 (실패해도 페이지는 표시)
+        PageComposer.Part<Integer> sumOrderItemQty = page.fork("sumOrderItemQty", () ->
+                orderHistoryRepository.getTotalOrderItemQtyByUserId(Long.valueOf(sessionUser.getId()))).orElse(null);
 
         // 2. 선택된 크리에이터의 정보와 관련된 코디 목록 가져오기
-        List<Codi> codis = codiRepository.findCodiByUserId(sessionUser.getId());
+        PageComposer.Part<List<Codi>> codis = page.fork("codis", () ->
+                codiRepository.findCodiByUserId(sessionUser.getId()));
 
-        // 3. 코디에 연결된 아이템 및 포토 정보 가져오기
-        List<Items> itemsList = itemsRepository.findItemsByCodiIds(
-                codis.stream().map(Codi::getId).collect(Collectors.toList()));
+        // 3. 코디에 연결된 아이템 및 포토 정보 가져오기 (코디 목록 조회 후 시작)
+        PageComposer.Part<List<Items>> itemsList = page.fork("items", codis, codiList ->
+                itemsRepository.findItemsByCodiIds(codiList.stream().map(Codi::getId).collect(Collectors.toList())));
+        page.join();
 
         // 4. DTO로 매핑하기
-        List<UserResponse.MyCodiList> codiDTOs = codis.stream()
+        List<UserResponse.MyCodiList> codiDTOs = codis.get().stream()
                 .map(UserResponse.MyCodiList::new)
                 .collect(Collectors.toList());
 
-        List<UserResponse.ItemList> itemDTOs = itemsList.stream()
+        List<UserResponse.ItemList> itemDTOs = itemsList.get().stream()
                 .map(UserResponse.ItemList::new)
                 .distinct()
                 .collect(Collectors.toList());
 
-        UserResponse.CreatorMyInfo creatorInfoDTO = new UserResponse.CreatorMyInfo(user, sumOrderItemQty);
+        UserResponse.CreatorMyInfo creatorInfoDTO = new UserResponse.CreatorMyInfo(user.get(), sumOrderItemQty.get());
+        // 아직 합산되지 않은 적립분까지 포함한 잔액
+        creatorInfoDTO.setMileage(mileageService.getBalance(MileageLedger.OwnerType.USER, user.get().getId()));
 
         // 3. UserResponse.UserMyPage 객체 생성 및 반환
         return new UserResponse.CreatorMyPage(creatorInfoDTO, codiDTOs, itemDTOs);
     }
 
     // 유저 아이템, 코디 통합 검색
-    public UserResponse.SearchPage searchPage(String keyword) {
+    public UserResponse.SearchPage searchPage(String keyword, Integer codiCursor, Integer itemCursor, Integer size) {
         List<Codi> codiList;
         List<Items> items;
         List<CodiResponse.CodiListDTO> codiListDTO;
         List<ItemsResponse.ItemListDTO> itemListDTO;
 
         if (keyword == null || keyword.isEmpty()) {
-            codiList = codiRepository.findByAllCodi();
-            items = itemsRepository.findByAllItems();
+            // 검색어가 없으면 전체 목록을 탭마다 커서 단위로
+            Pageable limit = CursorPage.limit(size);
+            codiList = codiRepository.findPageAfter(codiCursor, limit);
+            items = itemsRepository.findPageAfter(itemCursor, limit);
             codiListDTO = codiList.stream()
                     .map(CodiResponse.CodiListDTO::new).toList();
             itemListDTO = items.stream()
                     .map(ItemsResponse.ItemListDTO::new).toList();
 
-            return new UserResponse.SearchPage(codiListDTO, itemListDTO);
+            UserResponse.SearchPage respDTO = new UserResponse.SearchPage(codiListDTO, itemListDTO);
+            respDTO.setCodiNextCursor(CursorPage.nextCursor(codiList, limit, Codi::getId));
+            respDTO.setItemNextCursor(CursorPage.nextCursor(items, limit, Items::getId));
+            return respDTO;
         }
 
-        items = itemsRepository.findItemsByItemName(keyword);
-        // TODO
-        codiList = codiRepository.findByDescriptionContaining(keyword);
+        // LIKE 대신 메모리 색인으로 검색 (순위순)
+        items = itemsSearchIndex.search(keyword);
+        codiList = codiSearchIndex.search(keyword);
 
         codiListDTO = codiList.stream()
                 .map(CodiResponse.CodiListDTO::new).toList();
@@ -326,11 +366,13 @@ public class UserService {
 
     // 파일로 저장 + 예외처리
     @org.springframework.transaction.annotation.Transactional
-    protected void validationCheckAndSave(String base64, Path imgPath) {
-        try {
-            byte[] photoBytes = Base64.decodeBase64(base64);
+    protected void validationCheckAndSave(UserRequest.ProfileUpdateDTO.PhotoDTO photo, Path imgPath) {
+        // 미리 올린 사진이 있으면 그 파일을, 없으면 base64를 읽는 만큼만 디코딩해서 바로 파일로 저장
+        try (InputStream in = photo.getUploadId() != null
+                ? photoUploadStaging.take(photo.getUploadId())
+                : Base64Util.decodingStream(photo.getBase64())) {
             Files.createDirectories(imgPath.getParent());
-            Files.write(imgPath, photoBytes);
+            Files.copy(in, imgPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -40,28 +40,20 @@ VALUES ('junghein@example.com', '1234', 'junghein', '정해인', '서울특별
         '하체가 길어 키가 커보이는 체형', 'kimheenim',
         '승인', TRUE, 3000);
 
--- 카테고리 테이블 더미
+-- 카테고리 테이블 더미 (상위/하위 카테고리 조합마다 한 행, 아이템끼리 공유)
 INSERT INTO category_tb (main, sub)
 VALUES ('top', '반팔'),
        ('bottom', '청바지'),
        ('top', '반팔 셔츠'),
        ('bottom', '카고 팬츠'),
        ('top', '니트'),
-       ('bottom', '청바지'),
        ('top', '니트 집업'),
-       ('bottom', '청바지'),
        ('top', '크롭 숏 가디건 자켓'),
        ('bottom', '슬랙스'),
        ('top', '셔츠'),
        ('top', '티셔츠'),
-       ('bottom', '슬랙스'),
        ('top', '반팔 니트 가디건'),
-       ('bottom', '슬랙스'),
-       ('top', '라운드 니트'),
-       ('bottom', '슬랙스'),
-
-       ('top', '반팔'),
-       ('bottom', '슬랙스');
+       ('top', '라운드 니트');
 
 
 -- 아이템(Items) 더미 데이터 삽입
@@ -71,21 +63,21 @@ VALUES (1, 'SCRAPPED 티셔츠(WHITE)', '힙하고 유니크한 반팔로 어느
        (2, 'CHAIN STITCH OPEN COLLAR HALF SHIRT_BLACK', '빈티지 무드의 자수 그래픽이 사용된 오픈 카라 셔츠입니다.', 'L', 55000, 0, 200, 3, true),
        (2, '나일론 립스탑 유틸리티 팬츠_BLACK', '현대식 디자인에 맞춘 카고 팬츠입니다.', 'M', 50000, 0, 100, 4, true),
        (3, 'crop cable sweater', '방모 원사임에도 모달이 섞여 기분좋은 찰랑거림이 있는게 매력적입니다.', 'L', 75000, 0, 50, 5, true),
-       (3, '라이트블루 데님팬츠', '셀비지 원단으로 만들어진 라이트 불루 데님.', 'L', 40000, 0, 200, 6, true),
-       (1, 'Bulky wool full zip knit', '고급스러운 컬러감을 선택하여 단품으로도 한겨울에 이너로도 활용도가 높은 아이템.', 'L', 59000, 0, 100, 7, true),
-       (1, 'Two Tuck Wide Black Jeans', '투턱 디테일과 사선 포켓 활용으로 입체적인 핏 감의 네츄럴한 무드 연출.', 'L', 32000, 0, 50, 8, true),
-       (2, '크롭 숏 가디건 자켓', 'Basic하면서 유니크한 디자인으로 기본으로 입어도 좋고 이너로 입어도 잘 어울리는 가디건입니다.', 'L', 75000, 0, 200, 9, true),
-       (2, '투턱 세미 와이드 슬랙스', '투턱 와이드의 정석으로 어느 상의와도 매치하기 좋습니다.', 'M', 50000, 0, 100, 10, true),
-       (2, '오버핏 미니멀 셔츠 남방', '미니멀 셔츠 남방으로 이너로도 입기 좋고 쌀쌀 할 때 가디건 하나 걸쳐도 잘어룰리는 룩입니다.', 'XL', 43000, 0, 50, 11, true),
-       (3, '오버핏 무지 티셔츠', '간절기에 입기 좋은 무지 티셔츠입니다.', 'XL', 43000, 0, 200, 12, true),
-       (3, '코튼 면팬츠 와이드 슬랙스', '코튼 면팬츠 와이드 슬랙스의 정석으로 어느 상의와도 잘 어룰리는 와이드 슬랙스 입니다.', 'M', 50000, 0, 100, 13, true),
-       (1, '반팔 니트 가디건', '여름에 입을 수 있는 가디건으로 이너와 아우터로 착용 가능합니다.', 'L', 75000, 0, 50, 14, true),
-       (1, '핀턱 와이드 슬랙스 팬츠', '핀턱이 잡혀있고 재질이 얇아 여름에 입기 좋은 상품입니다.', 'L', 50000, 0, 200, 15, true),
-       (2, '긴팔 라운드 니트', '간절기에 입기 좋은 재질로 구성됐습니다.', 'L', 50000, 0, 100, 16, true),
-       (2, '다리가 길어보이는 투턱 세미 와이드 슬랙스 팬츠', '다리가 길어보이는 투턱 세미 와이드 팬츠로 어느룩에든 잘 어울립니다.', 'L', 75000, 0, 50, 17, true),
+       (3, '라이트블루 데님팬츠', '셀비지 원단으로 만들어진 라이트 불루 데님.', 'L', 40000, 0, 200, 2, true),
+       (1, 'Bulky wool full zip knit', '고급스러운 컬러감을 선택하여 단품으로도 한겨울에 이너로도 활용도가 높은 아이템.', 'L', 59000, 0, 100, 6, true),
+       (1, 'Two Tuck Wide Black Jeans', '투턱 디테일과 사선 포켓 활용으로 입체적인 핏 감의 네츄럴한 무드 연출.', 'L', 32000, 0, 50, 2, true),
+       (2, '크롭 숏 가디건 자켓', 'Basic하면서 유니크한 디자인으로 기본으로 입어도 좋고 이너로 입어도 잘 어울리는 가디건입니다.', 'L', 75000, 0, 200, 7, true),
+       (2, '투턱 세미 와이드 슬랙스', '투턱 와이드의 정석으로 어느 상의와도 매치하기 좋습니다.', 'M', 50000, 0, 100, 8, true),
+       (2, '오버핏 미니멀 셔츠 남방', '미니멀 셔츠 남방으로 이너로도 입기 좋고 쌀쌀 할 때 가디건 하나 걸쳐도 잘어룰리는 룩입니다.', 'XL', 43000, 0, 50, 9, true),
+       (3, '오버핏 무지 티셔츠', '간절기에 입기 좋은 무지 티셔츠입니다.', 'XL', 43000, 0, 200, 10, true),
+       (3, '코튼 면팬츠 와이드 슬랙스', '코튼 면팬츠 와이드 슬랙스의 정석으로 어느 상의와도 잘 어룰리는 와이드 슬랙스 입니다.', 'M', 50000, 0, 100, 8, true),
+       (1, '반팔 니트 가디건', '여름에 입을 수 있는 가디건으로 이너와 아우터로 착용 가능합니다.', 'L', 75000, 0, 50, 11, true),
+       (1, '핀턱 와이드 슬랙스 팬츠', '핀턱이 잡혀있고 재질이 얇아 여름에 입기 좋은 상품입니다.', 'L', 50000, 0, 200, 8, true),
+       (2, '긴팔 라운드 니트', '간절기에 입기 좋은 재질로 구성됐습니다.', 'L', 50000, 0, 100, 12, true),
+       (2, '다리가 길어보이는 투턱 세미 와이드 슬랙스 팬츠', '다리가 길어보이는 투턱 세미 와이드 팬츠로 어느룩에든 잘 어울립니다.', 'L', 75000, 0, 50, 8, true),
 
-       (4, '린넨 쿨링 3버튼 카라 반팔', '시원한 린넨 쿨링 3버튼 카라 반팔, 여름에 딱!', 'M', 29000, 0, 100, 18, true),
-       (4, '[비침 X] 2TYPE 린넨 쿨링 밴딩 팬츠', '비침 없는 쿨링 린넨 팬츠, 여름 필수템!', 'M', 35000, 0, 100, 19, true);
+       (4, '린넨 쿨링 3버튼 카라 반팔', '시원한 린넨 쿨링 3버튼 카라 반팔, 여름에 딱!', 'M', 29000, 0, 100, 1, true),
+       (4, '[비침 X] 2TYPE 린넨 쿨링 밴딩 팬츠', '비침 없는 쿨링 린넨 팬츠, 여름 필수템!', 'M', 35000, 0, 100, 8, true);
 
 
 -- 장바구니 더미데이터
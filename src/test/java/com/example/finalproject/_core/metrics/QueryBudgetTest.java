@@ -0,0 +1,64 @@
+package com.example.finalproject._core.metrics;
+
+import com.example.finalproject._core.error.exception.Exception500;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class QueryBudgetTest {
+
+    @Autowired
+    private RequestMappingHandlerMapping requestMappingHandlerMapping;
+
+    @AfterEach
+    public void tearDown() {
+        SqlStatementCounter.end();
+    }
+
+    // 모든 *RestController 엔드포인트에 SQL 예산이 있어야 함
+    @Test
+    public void every_rest_endpoint_has_budget_test() {
+        List<String> missing = requestMappingHandlerMapping.getHandlerMethods().entrySet().stream()
+                .filter(entry -> AnnotatedElementUtils.hasAnnotation(entry.getValue().getBeanType(), RestController.class))
+                .filter(entry -> entry.getValue().getBeanType().getPackageName().startsWith("com.example.finalproject"))
+                .filter(entry -> !entry.getValue().hasMethodAnnotation(QueryBudget.class))
+                .map(entry -> entry.getKey().toString())
+                .toList();
+
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    public void strict_budget_fails_on_exceed_test() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SqlStatementCounter.begin();
+        SqlStatementCounter.budget(1, true);
+
+        counter.inspect("select 1");
+
+        assertThatThrownBy(() -> counter.inspect("select 2"))
+                .isInstanceOf(Exception500.class);
+    }
+
+    @Test
+    public void lenient_budget_only_counts_test() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SqlStatementCounter.begin();
+        SqlStatementCounter.budget(1, false);
+
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+
+        assertThat(SqlStatementCounter.current()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.finalproject._core.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.example.finalproject.domain.user.SessionUser;
+import com.example.finalproject.domain.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AppJwtUtilTest {
+
+    // 두 번째 검증부터는 캐시에서 읽지만 결과는 서명 검증과 같고, 호출한 쪽이 바꿔도 캐시에는 영향 없음
+    @Test
+    public void verify_cached_copy_test() {
+        String jwt = AppJwtUtil.create(user(3, "변우석"));
+
+        SessionUser first = AppJwtUtil.verify(jwt);
+        first.setMyName("바뀐 이름");
+        SessionUser second = AppJwtUtil.verify(jwt);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second).isEqualTo(AppJwtUtil.verifyWithoutCache(jwt));
+        assertThat(second.getId()).isEqualTo(3);
+        assertThat(second.getMyName()).isEqualTo("변우석");
+    }
+
+    @Test
+    public void verify_expired_test() {
+        String jwt = token(System.currentTimeMillis() - 60_000);
+
+        assertThatThrownBy(() -> AppJwtUtil.verify(jwt)).isInstanceOf(TokenExpiredException.class);
+    }
+
+    // 캐시에 들어간 토큰도 만료 시각이 지나면 거부
+    @Test
+    public void verify_cached_then_expired_test() throws InterruptedException {
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000; // exp 는 초 단위
+        String jwt = token(expiresAt);
+        assertThat(AppJwtUtil.verify(jwt).getId()).isEqualTo(1);
+
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 100);
+
+        assertThatThrownBy(() -> AppJwtUtil.verify(jwt)).isInstanceOf(TokenExpiredException.class);
+    }
+
+    // 서명이 다른 토큰은 캐시에 있던 토큰과 내용이 같아도 거부
+    @Test
+    public void verify_tampered_test() {
+        String jwt = AppJwtUtil.create(user(3, "변우석"));
+        AppJwtUtil.verify(jwt);
+        String tampered = jwt.substring(0, jwt.lastIndexOf('.') + 1) + "invalidsignature";
+
+        assertThatThrownBy(() -> AppJwtUtil.verify(tampered)).isInstanceOf(JWTVerificationException.class);
+    }
+
+    // 캐시 크기를 넘겨 비우는 중에도 모든 토큰이 그대로 검증됨
+    @Test
+    public void verify_after_eviction_test() {
+        String first = AppJwtUtil.create(user(0, "user0"));
+        AppJwtUtil.verify(first);
+        for (int id = 1; id <= 10_500; id++) {
+            assertThat(AppJwtUtil.verify(AppJwtUtil.create(user(id, "user" + id))).getId()).isEqualTo(id);
+        }
+
+        assertThat(AppJwtUtil.verify(first).getMyName()).isEqualTo("user0");
+    }
+
+    private static User user(int id, String name) {
+        return User.builder()
+                .id(id)
+                .myName(name)
+                .email(name + "@example.com")
+                .blueChecked(true)
+                .build();
+    }
+
+    private static String token(long expiresAtMillis) {
+        return JWT.create()
+                .withSubject("blog")
+                .withExpiresAt(new Date(expiresAtMillis))
+                .withClaim("id", 1)
+                .withClaim("name", "ssar")
+                .withClaim("email", "ssar@example.com")
+                .withClaim("role", false)
+                .sign(Algorithm.HMAC512("finalproject"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.finalproject._core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntLongGroupMapTest {
+
+    // 같은 키는 같은 그룹, 그룹 번호는 처음 나온 순서대로
+    @Test
+    public void group_in_first_seen_order_test() {
+        IntLongGroupMap map = new IntLongGroupMap(2, 4);
+
+        assertThat(map.group(30)).isEqualTo(0);
+        assertThat(map.group(10)).isEqualTo(1);
+        assertThat(map.group(30)).isEqualTo(0);
+        assertThat(map.group(20)).isEqualTo(2);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.key(0)).isEqualTo(30);
+        assertThat(map.key(1)).isEqualTo(10);
+        assertThat(map.key(2)).isEqualTo(20);
+    }
+
+    // 컬럼별 합계는 서로 섞이지 않음
+    @Test
+    public void sum_by_column_test() {
+        IntLongGroupMap map = new IntLongGroupMap(2, 4);
+        int a = map.group(1);
+        int b = map.group(2);
+
+        map.add(a, 0, 2);
+        map.add(a, 1, 90_000);
+        map.add(b, 0, 1);
+        map.add(a, 0, 3);
+        map.add(b, 1, Integer.MAX_VALUE);
+        map.add(b, 1, Integer.MAX_VALUE);
+
+        assertThat(map.sum(a, 0)).isEqualTo(5);
+        assertThat(map.sum(a, 1)).isEqualTo(90_000);
+        assertThat(map.sum(b, 0)).isEqualTo(1);
+        assertThat(map.sum(b, 1)).isEqualTo(2L * Integer.MAX_VALUE); // int 범위를 넘어도 long 으로 누적
+    }
+
+    // 음수 키, 0, 빈 슬롯 표시값과 같은 -1 도 일반 키로 취급
+    @Test
+    public void negative_keys_test() {
+        IntLongGroupMap map = new IntLongGroupMap(1, 4);
+        int[] keys = {-1, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, -7};
+        for (int key : keys) {
+            map.add(map.group(key), 0, key);
+        }
+        for (int key : keys) {
+            map.add(map.group(key), 0, 1);
+        }
+
+        assertThat(map.size()).isEqualTo(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(map.key(i)).isEqualTo(keys[i]);
+            assertThat(map.sum(i, 0)).isEqualTo((long) keys[i] + 1);
+        }
+    }
+
+    // 처음 크기를 작게 잡아 여러 번 늘어나도(재해시) 그룹 번호, 키, 합계가 유지됨
+    @Test
+    public void grow_rehash_test() {
+        IntLongGroupMap map = new IntLongGroupMap(2, 1);
+        Map<Integer, Integer> groupByKey = new HashMap<>();
+        for (int key = -500; key < 500; key++) {
+            int group = map.group(key);
+            groupByKey.put(key, group);
+            map.add(group, 0, 1);
+            map.add(group, 1, key);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        groupByKey.forEach((key, group) -> {
+            assertThat(map.group(key)).isEqualTo(group);
+            assertThat(map.key(group)).isEqualTo(key);
+            assertThat(map.sum(group, 0)).isEqualTo(1);
+            assertThat(map.sum(group, 1)).isEqualTo(key);
+        });
+    }
+
+    // 해시 슬롯이 겹치는 키(하위 비트가 같은 키, 같은 값이 반복되는 무작위 키)도 HashMap 으로 집계한 결과와 같음
+    @Test
+    public void colliding_keys_test() {
+        IntLongGroupMap map = new IntLongGroupMap(1, 8);
+        Map<Integer, Long> expected = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // 절반은 하위 16비트가 0인 키(1 << 16 의 배수), 절반은 좁은 범위의 무작위 키
+            int key = i % 2 == 0 ? (random.nextInt(64) - 32) << 16 : random.nextInt(300) - 150;
+            long value = random.nextInt(1000);
+            map.add(map.group(key), 0, value);
+            expected.merge(key, value, Long::sum);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        int group = 0;
+        for (Map.Entry<Integer, Long> entry : expected.entrySet()) {
+            assertThat(map.key(group)).isEqualTo(entry.getKey());
+            assertThat(map.sum(group, 0)).isEqualTo(entry.getValue());
+            group++;
+        }
+    }
+}
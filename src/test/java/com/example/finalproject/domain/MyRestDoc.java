@@ -7,6 +7,7 @@ import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.operation.preprocess.Preprocessors;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -14,6 +15,9 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 import java.nio.charset.StandardCharsets;
+// 컨트롤러 테스트에서는 @QueryBudget 을 넘는 SQL 이 실행되면 바로 실패 (N+1 회귀 감지)
+// 시작 시 축소본 보충은 끔 (문서에 남는 사진 경로가 실행 시점에 따라 달라지지 않도록)
+@TestPropertySource(properties = {"query-budget.strict=true", "photo-variant.backfill=false"})
 @ExtendWith({ SpringExtension.class, RestDocumentationExtension.class })
 public class MyRestDoc {
     protected MockMvc mvc;
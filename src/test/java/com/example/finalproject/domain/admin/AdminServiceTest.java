@@ -0,0 +1,30 @@
+package com.example.finalproject.domain.admin;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AdminServiceTest {
+    private static final int ADMIN_ID = 1; // 더미 데이터에 주문 내역이 있는 브랜드
+
+    @Autowired
+    private AdminService adminService;
+
+    // 시작일이나 종료일만 있으면 반대쪽은 열린 구간
+    @Test
+    public void brand_order_history_open_ended_test() {
+        AdminResponse.BrandSalesManagement all = adminService.brandOrderHistory(ADMIN_ID, null, null);
+        LocalDate past = LocalDate.of(2000, 1, 1);
+        LocalDate future = LocalDate.now().plusYears(10);
+
+        assertThat(adminService.brandOrderHistory(ADMIN_ID, past, null).getTotalSalesAmount()).isEqualTo(all.getTotalSalesAmount());
+        assertThat(adminService.brandOrderHistory(ADMIN_ID, null, future).getTotalSalesAmount()).isEqualTo(all.getTotalSalesAmount());
+        assertThat(adminService.brandOrderHistory(ADMIN_ID, future, null).getBrandOrderHistoryList()).isEmpty();
+        assertThat(adminService.brandOrderHistory(ADMIN_ID, null, past).getBrandOrderHistoryList()).isEmpty();
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
@@ -17,6 +18,10 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @AutoConfigureMockMvc
@@ -260,6 +265,27 @@ public class CodiRestControllerTest extends MyRestDoc {
 
     }
 
+    @Test
+    public void topItemSave_cursor_test() throws Exception {
+        // when : 1번 브랜드 다음부터 1개 브랜드만
+        ResultActions actions = mvc.perform(MockMvcRequestBuilders.get("/app/codi-register/add-item/top")
+                .param("cursor", "1")
+                .param("size", "1")
+                .header("Authorization", "Bearer " + jwt));
+        // eye
+        String respBody = actions.andReturn().getResponse().getContentAsString();
+        System.out.println("respBody = " + respBody);
+        // then
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.response.length()").value(1));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.response[0].brandId").value(2));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.response[0].itemInfo[0].itemId").value(3));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.errorMessage").doesNotExist());
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document.document(queryParameters(
+                parameterWithName("cursor").description("이전 페이지 마지막 브랜드 번호 (없으면 처음부터)").optional(),
+                parameterWithName("size").description("브랜드 수 (기본 20, 최대 100) - cursor, size 를 모두 생략하면 브랜드 전체").optional())));
+    }
+
     @Test
     public void update_page_fail_test() throws Exception {
         // when
@@ -385,4 +411,61 @@ public class CodiRestControllerTest extends MyRestDoc {
         actions.andDo(MockMvcResultHandlers.print()).andDo(document);
 
     }
+
+    @Test
+    public void codiRegister_multipart_fail_test() throws Exception {
+        // given : 사진 파일 없이
+        CodiRequest.MultipartSaveDTO reqDTO = new CodiRequest.MultipartSaveDTO("멀티파트 코디 설명입니다", 0, List.of());
+        MockMultipartFile codi = new MockMultipartFile("codi", "", MediaType.APPLICATION_JSON_VALUE, om.writeValueAsBytes(reqDTO));
+        MockMultipartFile emptyPhoto = new MockMultipartFile("photos", "photo1.jpg", MediaType.IMAGE_JPEG_VALUE, new byte[0]);
+
+        // when
+        ResultActions actions = mvc.perform(multipart("/app/codi-register")
+                .file(codi)
+                .file(emptyPhoto)
+                .header("Authorization", "Bearer " + jwt));
+
+        // then
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.success").value(false));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.errorMessage").value("코디 사진을 넣어 주셔야 합니다."));
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document);
+    }
+
+    @Test
+    public void codiRegister_multipart_success_test() throws Exception {
+        // given : 작성자는 본문이 아니라 로그인한 사용자(1번)
+        String jwt1 = AppJwtUtil.create(User.builder()
+                .id(1)
+                .myName("정해인")
+                .email("junghein@example.com")
+                .blueChecked(true)
+                .build());
+        CodiRequest.MultipartSaveDTO reqDTO = new CodiRequest.MultipartSaveDTO("멀티파트 코디 설명입니다", 1,
+                List.of(new CodiRequest.SaveDTO.ItemCodiDTO(1, 1)));
+        MockMultipartFile codi = new MockMultipartFile("codi", "", MediaType.APPLICATION_JSON_VALUE, om.writeValueAsBytes(reqDTO));
+        MockMultipartFile photo1 = new MockMultipartFile("photos", "multipart1.jpg", MediaType.IMAGE_JPEG_VALUE,
+                "multipart-photo-1".getBytes());
+        MockMultipartFile photo2 = new MockMultipartFile("photos", "multipart2.jpg", MediaType.IMAGE_JPEG_VALUE,
+                "multipart-photo-2".getBytes());
+
+        // when
+        ResultActions actions = mvc.perform(multipart("/app/codi-register")
+                .file(codi)
+                .file(photo1)
+                .file(photo2)
+                .header("Authorization", "Bearer " + jwt1));
+
+        // eye
+        String respBody = actions.andReturn().getResponse().getContentAsString();
+        System.out.println("respBody = " + respBody);
+
+        // then
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.success").value(true));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.response.userId").value(1));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.response.photoPath").value(startsWith("/upload/blob/")));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.errorMessage").doesNotExist());
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.example.finalproject.domain.items;
+
+import com.example.finalproject._core.error.exception.Exception400;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StockReservationTest {
+    private static final int ITEM_ID = 19;
+
+    @Autowired
+    private StockReservation stockReservation;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Integer originalStock;
+
+    @BeforeEach
+    public void setUp() {
+        originalStock = jdbcTemplate.queryForObject("select stock from items_tb where id = ?", Integer.class, ITEM_ID);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("update items_tb set stock = ? where id = ?", originalStock, ITEM_ID);
+        stockReservation.invalidate(ITEM_ID);
+    }
+
+    // 재고 10개 아이템에 동시에 50건 주문 -> 정확히 10건만 성공하고 재고는 0 (초과 판매 없음)
+    @Test
+    public void reserve_concurrent_no_oversell_test() throws Exception {
+        // given
+        int stock = 10;
+        int orders = 50;
+        jdbcTemplate.update("update items_tb set stock = ? where id = ?", stock, ITEM_ID);
+        stockReservation.invalidate(ITEM_ID);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        // when
+        try {
+            for (int i = 0; i < orders; i++) {
+                int userId = 1000 + i;
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        tx.executeWithoutResult(status ->
+                                stockReservation.reserve(userId, new TreeMap<>(Map.of(ITEM_ID, 1))));
+                        success.incrementAndGet();
+                    } catch (Exception400 e) {
+                        soldOut.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        Integer remaining = jdbcTemplate.queryForObject("select stock from items_tb where id = ?", Integer.class, ITEM_ID);
+        assertThat(success.get()).isEqualTo(stock);
+        assertThat(soldOut.get()).isEqualTo(orders - stock);
+        assertThat(remaining).isEqualTo(0);
+    }
+
+    // 다른 사용자가 장바구니에 담아 둔 수량은 남겨 두고 차감
+    @Test
+    public void reserve_keeps_other_cart_hold_test() {
+        // given
+        jdbcTemplate.update("update items_tb set stock = ? where id = ?", 3, ITEM_ID);
+        stockReservation.invalidate(ITEM_ID);
+        stockReservation.hold(2000, ITEM_ID, 2, 3);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // when
+        tx.executeWithoutResult(status -> stockReservation.reserve(2001, new TreeMap<>(Map.of(ITEM_ID, 1))));
+        Exception400 fail = null;
+        try {
+            tx.executeWithoutResult(status -> stockReservation.reserve(2002, new TreeMap<>(Map.of(ITEM_ID, 1))));
+        } catch (Exception400 e) {
+            fail = e;
+        }
+        stockReservation.release(2000, ITEM_ID);
+
+        // then
+        Integer remaining = jdbcTemplate.queryForObject("select stock from items_tb where id = ?", Integer.class, ITEM_ID);
+        assertThat(fail).isNotNull();
+        assertThat(remaining).isEqualTo(2);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.finalproject.domain.mileage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MileageFoldTest {
+    private static final int ADMIN_ID = 1;
+    private static final int ORDER_ID = -10; // 이 테스트가 넣은 원장 표시
+
+    @Autowired
+    private MileageService mileageService;
+    @Autowired
+    private MileageLedgerRepository mileageLedgerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Integer originalMileage;
+
+    @BeforeEach
+    public void setUp() {
+        mileageService.fold(); // 다른 테스트가 남긴 원장을 먼저 합산
+        originalMileage = mileage();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from mileage_ledger_tb where order_id = ?", ORDER_ID);
+        jdbcTemplate.update("update admin_tb set mileage = ? where id = ?", originalMileage, ADMIN_ID);
+        mileageService.evict();
+    }
+
+    // 번호가 더 작은 원장이 합산과 완료 처리 사이에 커밋되어도 합산되지 않은 채 완료 처리되지 않음
+    @Test
+    public void fold_late_commit_not_lost_test() throws Exception {
+        // given : 먼저 번호를 받았지만 아직 커밋하지 않은 주문
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<?> late = executor.submit(() -> tx.executeWithoutResult(status -> {
+                mileageLedgerRepository.appendAll(ORDER_ID, Map.of(ADMIN_ID, 100), Map.of());
+                inserted.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+            mileageLedgerRepository.appendAll(ORDER_ID, Map.of(ADMIN_ID, 10), Map.of());
+
+            // when : 합산한 뒤 늦은 주문이 커밋되고 나서 완료 처리
+            tx.executeWithoutResult(status -> {
+                String batch = UUID.randomUUID().toString();
+                mileageLedgerRepository.claim(batch);
+                // 합산된 브랜드 번호만 돌려줌 (2차 캐시에서 이 브랜드만 비움)
+                assertThat(mileageLedgerRepository.foldInto(MileageLedger.OwnerType.ADMIN, batch)).containsExactly(ADMIN_ID);
+                assertThat(mileageLedgerRepository.foldInto(MileageLedger.OwnerType.USER, batch)).isEmpty();
+                release.countDown();
+                try {
+                    late.get(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                mileageLedgerRepository.markFolded(batch);
+            });
+
+            // then : 완료 처리된 원장은 모두 mileage 에 들어가 있음
+            Integer foldedSum = jdbcTemplate.queryForObject(
+                    "select coalesce(sum(amount), 0) from mileage_ledger_tb where order_id = ? and folded = true", Integer.class, ORDER_ID);
+            assertThat(mileage() - originalMileage).isEqualTo(foldedSum);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        // 남은 원장은 다음 합산에서 들어감
+        mileageService.fold();
+        assertThat(mileage() - originalMileage).isEqualTo(110);
+        mileageService.evict();
+        assertThat(mileageService.getBalance(MileageLedger.OwnerType.ADMIN, ADMIN_ID)).isEqualTo(mileage());
+    }
+
+    private Integer mileage() {
+        return jdbcTemplate.queryForObject("select coalesce(mileage, 0) from admin_tb where id = ?", Integer.class, ADMIN_ID);
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.finalproject.domain.photo;
 
+import com.example.finalproject._core.utils.AppJwtUtil;
 import com.example.finalproject.domain.MyRestDoc;
+import com.example.finalproject.domain.user.User;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
@@ -13,6 +17,19 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 public class PhotoRestControllerTest extends MyRestDoc {
 
+    private static String jwt;
+
+    @BeforeAll
+    public static void setUp() {
+        jwt = AppJwtUtil.create(
+                User.builder()
+                        .id(1)
+                        .email("junghein@example.com")
+                        .password("1234")
+                        .myName("junghein")
+                        .blueChecked(true)
+                        .build());
+    }
 
     @Test
     public void getHomeLists_success_test() throws Exception {
@@ -70,4 +87,55 @@ public class PhotoRestControllerTest extends MyRestDoc {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void streamPhoto_range_success_test() throws Exception {
+        // given
+        Integer photoId = 1;
+
+        // when
+        ResultActions actions = mvc.perform(MockMvcRequestBuilders.get("/photos/" + photoId)
+                .header("Range", "bytes=0-99"));
+
+        // then
+        actions.andExpect(MockMvcResultMatchers.status().isPartialContent());
+        actions.andExpect(MockMvcResultMatchers.header().string("Content-Range", "bytes 0-99/2236"));
+        actions.andExpect(MockMvcResultMatchers.header().string("Content-Type", "image/jpeg"));
+        actions.andExpect(MockMvcResultMatchers.header().exists("ETag"));
+        actions.andDo(document);
+    }
+
+    @Test
+    public void uploadPhoto_success_test() throws Exception {
+        // given
+        String reqBody = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAMgAAADICAYAAACtWK6eAAAABHNCSVQICAgIfAhkiAAAAAlwSFlzAAALEgAACxIB0t1+/AAAADl0RVh0U29mdHdhcmUAbWF0cGxvdGxpYiB2ZXJzaW9";
+
+        // when
+        ResultActions actions = mvc.perform(MockMvcRequestBuilders.post("/app/photos/upload")
+                .header("Authorization", "Bearer " + jwt)
+                .content(reqBody)
+                .contentType(MediaType.TEXT_PLAIN));
+
+        // then
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.response.uploadId").exists());
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.response.size").value(104));
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document);
+    }
+
+    @Test
+    public void uploadPhoto_invalid_base64_fail_test() throws Exception {
+        // given
+        String reqBody = "이건 base64가 아닙니다";
+
+        // when
+        ResultActions actions = mvc.perform(MockMvcRequestBuilders.post("/app/photos/upload")
+                .header("Authorization", "Bearer " + jwt)
+                .content(reqBody)
+                .contentType(MediaType.TEXT_PLAIN));
+
+        // then
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400));
+        actions.andExpect(MockMvcResultMatchers.jsonPath("$.errorMessage").value("Base64 형식이 아닙니다."));
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document);
+    }
+}